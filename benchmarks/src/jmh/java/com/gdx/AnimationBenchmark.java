@@ -0,0 +1,70 @@
+package com.gdx;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Picking a frame for count sprites per op: FacingAnimation (pre-mirrored frames) against the
+ * old Animation.getKeyFrame + flip-on-draw pattern.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AnimationBenchmark {
+    @Param({"4", "64", "512"})
+    public int count;
+
+    private FacingAnimation facing;
+    private Animation<TextureRegion> plain;
+    private float[] stateTimes;
+    private boolean[] facingRight;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        GameAtlas atlas = GameAtlas.headless();
+        TextureRegion[] frames = atlas.strip("shooter/Soldier_1/Walk", 8);
+        facing = atlas.animation(0.1f, frames, Animation.PlayMode.LOOP);
+        plain = new Animation<>(0.1f, frames);
+        plain.setPlayMode(Animation.PlayMode.LOOP);
+        stateTimes = new float[count];
+        facingRight = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            stateTimes[i] = i * 0.037f;
+            facingRight[i] = (i & 1) == 0;
+        }
+    }
+
+    @Benchmark
+    public float facingAnimation() {
+        float sum = 0;
+        for (int i = 0; i < count; i++) {
+            TextureRegion frame = facing.getKeyFrame(stateTimes[i], true, facingRight[i]);
+            sum += frame.getU();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float getKeyFrameAndFlip() {
+        float sum = 0;
+        for (int i = 0; i < count; i++) {
+            TextureRegion frame = plain.getKeyFrame(stateTimes[i], true);
+            boolean flip = !facingRight[i];
+            if (flip) frame.flip(true, false);
+            sum += frame.getU();
+            if (flip) frame.flip(true, false);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,54 @@
+package com.gdx;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EnemyAiSystem (AI + animation state) for a whole crowd, one simulation step per op.
+ * The player stands near x = 100, so spread decides how many enemies fall in each AI LOD tier.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EnemyBenchmark {
+    @Param({"4", "64", "512", "4096"})
+    public int count;
+
+    // 2000 = semua musuh di sekitar player, 5000 = tersebar di seluruh world (sebagian besar FAR/DORMANT)
+    @Param({"2000", "5000"})
+    public int spread;
+
+    private World world;
+    private EnemyAiSystem ai;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        world = new World(GameAtlas.headless(), 1L);
+        EnemyArchetypes types = new EnemyArchetypes(GameAtlas.headless());
+        Combatants enemies = world.getEnemies();
+        enemies.clear();
+        // sebagian dekat player supaya cabang chase/shoot juga ikut terukur
+        for (int i = 0; i < count; i++) enemies.spawn(MathUtils.random(0, spread), 0, types.random(MathUtils.random));
+        ai = new EnemyAiSystem(world.getEntities());
+        // kamera 800x640 di tepi kiri world plus margin ViewBounds, seperti di awal GameScreen
+        ai.setView(new Rectangle(-96, -96, 992, 832));
+    }
+
+    @Benchmark
+    public int actAll() {
+        float step = world.getStepTime();
+        ai.update(step);
+        return world.getEnemies().size();
+    }
+}
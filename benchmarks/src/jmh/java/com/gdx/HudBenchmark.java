@@ -0,0 +1,82 @@
+package com.gdx;
+
+import com.badlogic.gdx.utils.StringBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-frame HUD text work (kills, dash cooldown, heal cooldown) at 60 fps.
+ * formatEveryFrame is what GameScreen used to do; changedOnly is what its HudLabels do now: compare
+ * the displayed value and refill a reused buffer only when it changed. Glyph layout itself needs a GL
+ * texture for the font and is not measured; it runs on the same "changed" frames only.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HudBenchmark {
+    private static final float FRAME = 1f / 60f;
+
+    private Player player;
+    private int killCount = 7;
+
+    private final StringBuilder kills = new StringBuilder(48);
+    private final StringBuilder dash = new StringBuilder(48);
+    private final StringBuilder heal = new StringBuilder(48);
+    private int shownKills = -1, shownDash = -1, shownHeal = -1;
+
+    @Setup
+    public void setup() {
+        player = new Player(100, 0, GameAtlas.headless());
+    }
+
+    // cooldown berjalan terus supaya nilai yang tampil benar-benar berubah sesekali
+    private void advance() {
+        player.dashCooldownTimer -= FRAME;
+        if (player.dashCooldownTimer < 0f) player.dashCooldownTimer = 2f;
+        player.healTimer -= FRAME;
+        if (player.healTimer < 0f) player.healTimer = 5f;
+    }
+
+    @Benchmark
+    public void formatEveryFrame(Blackhole bh) {
+        advance();
+        bh.consume("Kills: " + killCount + " / " + World.KILL_TARGET);
+        bh.consume(player.dashCooldownTimer <= 0f ? "DASH: READY"
+            : String.format("DASH: cooldown %.1fs", player.dashCooldownTimer));
+        bh.consume(String.format("%.0f", player.healTimer));
+    }
+
+    @Benchmark
+    public void changedOnly(Blackhole bh) {
+        advance();
+        if (killCount != shownKills) {
+            shownKills = killCount;
+            kills.setLength(0);
+            kills.append("Kills: ").append(killCount).append(" / ").append(World.KILL_TARGET);
+        }
+        int tenths = player.getDashCooldownTenths();
+        if (tenths != shownDash) {
+            shownDash = tenths;
+            dash.setLength(0);
+            if (tenths == 0) dash.append("DASH: READY");
+            else dash.append("DASH: cooldown ").append(tenths / 10).append('.').append(tenths % 10).append('s');
+        }
+        int seconds = Math.round(player.healTimer);
+        if (seconds != shownHeal) {
+            shownHeal = seconds;
+            heal.setLength(0);
+            heal.append(seconds);
+        }
+        bh.consume(kills);
+        bh.consume(dash);
+        bh.consume(heal);
+    }
+}
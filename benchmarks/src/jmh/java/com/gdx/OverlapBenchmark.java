@@ -0,0 +1,62 @@
+package com.gdx;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finding everything that overlaps the player's hitbox: a plain Rectangle.overlaps scan
+ * against the SpatialGrid rebuild + query that World does every step.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OverlapBenchmark {
+    @Param({"16", "256", "4096"})
+    public int count;
+
+    // layer bebas; grid hanya diukur sebagai broadphase umum
+    private static final int LAYER = 1;
+
+    private Rectangle[] rects;
+    private final Rectangle player = new Rectangle(2000, 0, 57, 154);
+    private final SpatialGrid<Rectangle> grid = new SpatialGrid<>(World.WIDTH, World.HEIGHT, 128);
+    private final Array<Rectangle> hits = new Array<>();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        rects = new Rectangle[count];
+        for (int i = 0; i < count; i++) {
+            rects[i] = new Rectangle(MathUtils.random(World.WIDTH - 40f), MathUtils.random(300f), 20, 20);
+        }
+    }
+
+    @Benchmark
+    public int linearScan() {
+        int n = 0;
+        for (Rectangle r : rects) {
+            if (r.overlaps(player)) n++;
+        }
+        return n;
+    }
+
+    @Benchmark
+    public int gridRebuildAndQuery() {
+        grid.clear();
+        for (Rectangle r : rects) grid.insert(r, r, LAYER);
+        hits.clear();
+        grid.queryRect(player, LAYER, hits);
+        return hits.size;
+    }
+}
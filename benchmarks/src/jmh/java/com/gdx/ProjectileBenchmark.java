@@ -0,0 +1,91 @@
+package com.gdx;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The bullet, bomb and explosion update loops from World, one simulation step per op.
+ * Finished projectiles are re-armed so the population stays at count.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProjectileBenchmark {
+    private static final float STEP = 1f / World.DEFAULT_TICK_RATE;
+
+    @Param({"16", "256", "4096", "16384"})
+    public int count;
+
+    private ProjectileSystem bullets;
+    private final Array<Bomb> bombs = new Array<>();
+    private final Array<Explosion> explosions = new Array<>();
+    private TextureRegion region;
+    private Animation<TextureRegion> explosionAnim;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        GameAtlas atlas = GameAtlas.headless();
+        region = atlas.region("bullet");
+        explosionAnim = new Animation<>(0.08f, atlas.strip("bombEx", 4));
+        bullets = new ProjectileSystem(region, count);
+        for (int i = 0; i < count; i++) {
+            bullets.spawn(ProjectileSystem.OWNER_ENEMY, MathUtils.random(World.WIDTH), MathUtils.random(200f), 20, 20, MathUtils.randomSign() * 500f, 0, 20f);
+            bombs.add(new Bomb().init(MathUtils.random(World.WIDTH), MathUtils.random(100f, 600f), MathUtils.random(World.WIDTH), region));
+            explosions.add(new Explosion().init(MathUtils.random(World.WIDTH), 0, explosionAnim));
+        }
+    }
+
+    @Benchmark
+    public int bullets() {
+        bullets.savePreviousPositions();
+        bullets.update(STEP);
+        int expired = count - bullets.size();
+        for (int i = 0; i < expired; i++) {
+            bullets.spawn(ProjectileSystem.OWNER_ENEMY, World.WIDTH / 2f, 100, 20, 20, 500f, 0, 20f);
+        }
+        return expired;
+    }
+
+    @Benchmark
+    public int bombs() {
+        int exploded = 0;
+        for (int i = 0; i < bombs.size; i++) {
+            Bomb b = bombs.get(i);
+            b.update(STEP);
+            if (b.exploded) {
+                b.reset();
+                b.init(b.rect.x, 600, 0, region);
+                exploded++;
+            }
+        }
+        return exploded;
+    }
+
+    @Benchmark
+    public int explosions() {
+        int finished = 0;
+        for (int i = 0; i < explosions.size; i++) {
+            Explosion ex = explosions.get(i);
+            ex.update(STEP);
+            if (ex.life <= 0) {
+                ex.reset();
+                ex.init(ex.x, ex.y, explosionAnim);
+                finished++;
+            }
+        }
+        return finished;
+    }
+}
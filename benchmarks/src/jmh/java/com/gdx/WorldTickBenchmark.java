@@ -0,0 +1,46 @@
+package com.gdx;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One full World.tick with scripted input: the player walks back and forth and keeps attacking.
+ * The world is rebuilt whenever the run ends so every op measures live gameplay.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WorldTickBenchmark {
+    private GameAtlas atlas;
+    private World world;
+    private final PlayerInput input = new PlayerInput();
+    private int tick;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        atlas = GameAtlas.headless();
+        world = new World(atlas, 1L);
+    }
+
+    @Benchmark
+    public World.State tick() {
+        tick++;
+        input.right = (tick / 300) % 2 == 0;
+        input.left = !input.right;
+        input.attackPressed = tick % 20 == 0;
+        world.tick(input);
+        input.consumePressed();
+        if (world.getState() == World.State.GAMEOVER || world.getState() == World.State.VICTORY) {
+            world = new World(atlas, tick);
+        }
+        return world.getState();
+    }
+}
@@ -0,0 +1,66 @@
+package com.gdx;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Every file the game loads, as typed AssetManager descriptors, grouped per screen.
+ * A LoadingScreen acquires a group through TextureCache before its screen is created and releases the
+ * previous screen's group once that is done.
+ */
+public final class Assets {
+    // ---------- Gameplay ----------
+    public static final AssetDescriptor<TextureAtlas> ATLAS = new AssetDescriptor<>(GameAtlas.PATH, TextureAtlas.class);
+    public static final AssetDescriptor<Texture> GAME_OVER = new AssetDescriptor<>("gameover.png", Texture.class);
+
+    public static final AssetDescriptor<Sound> SHOT = new AssetDescriptor<>("sound/shot.mp3", Sound.class);
+    public static final AssetDescriptor<Sound> HIT = new AssetDescriptor<>("sound/hit.mp3", Sound.class);
+    public static final AssetDescriptor<Sound> DASH = new AssetDescriptor<>("sound/dash.mp3", Sound.class);
+    public static final AssetDescriptor<Sound> HEAL = new AssetDescriptor<>("sound/heal.ogg", Sound.class);
+    public static final AssetDescriptor<Sound> DIE = new AssetDescriptor<>("sound/mati.ogg", Sound.class);
+    // musik tidak lewat AssetManager: dibuka dan di-crossfade oleh MusicManager
+    public static final String BOSS_MUSIC = "sound/boss.ogg";
+
+    // ---------- Font ----------
+    // DejaVu Sans 27 px di-bake ke BMFont (~2x lsans-15 bawaan), dipakai untuk teks besar daripada setScale(2f)
+    public static final AssetDescriptor<BitmapFont> BIG_FONT = new AssetDescriptor<>("fonts/hud-30.fnt", BitmapFont.class);
+
+    // ---------- Intro ----------
+    public static final AssetDescriptor<Texture> START = new AssetDescriptor<>("start.png", Texture.class);
+    public static final String INTRO_MUSIC = "sound/soundEpic.ogg";
+    // slide tidak lewat AssetManager: di-stream satu per satu oleh Slideshow
+    public static final String[] INTRO_SLIDES = {
+        "PerjuanganKemerdekaan.png",
+        "LoadScreen1.png",
+        "LoadScreen2.png",
+        "LoadScreen3.png",
+        "LoadScreen4.png",
+        "Hero_Intro1.png"
+    };
+
+    // ---------- End ----------
+    public static final String WIN_MUSIC = "sound/win.ogg";
+    public static final String[] WIN_SLIDES = {
+        "win1.png",
+        "win2.png",
+        "win3.png",
+        "win4.png",
+        "win5.png"
+    };
+
+    // ---------- Groups per screen ----------
+    public static final Array<AssetDescriptor<?>> GAME = group(ATLAS, GAME_OVER, BIG_FONT, SHOT, HIT, DASH, HEAL, DIE);
+    public static final Array<AssetDescriptor<?>> INTRO = group(START, BIG_FONT);
+    // slide dan musik EndScreen di-stream, tidak ada yang perlu dimuat di depan
+    public static final Array<AssetDescriptor<?>> END = group();
+
+    private Assets() {}
+
+    private static Array<AssetDescriptor<?>> group(AssetDescriptor<?>... descriptors) {
+        return new Array<>(descriptors);
+    }
+}
@@ -0,0 +1,73 @@
+package com.gdx;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Draws background layers as horizontally repeating tiles, back to front.
+ * Only the tiles that intersect the camera are submitted, so the cost per layer is two or three quads
+ * however wide the level is. Each layer scrolls at its own parallax factor.
+ */
+public class BackgroundRenderer {
+
+    public static class Layer {
+        public final TextureRegion region;
+        // 1 = bergerak bersama world, 0 = diam di layar, di antaranya = lebih jauh
+        public final float parallax;
+        public final float y;
+        public final float tileWidth, tileHeight;
+
+        public Layer(TextureRegion region, float parallax, float y, float scale) {
+            this.region = region;
+            this.parallax = parallax;
+            this.y = y;
+            this.tileWidth = region.getRegionWidth() * scale;
+            this.tileHeight = region.getRegionHeight() * scale;
+        }
+    }
+
+    private final Array<Layer> layers = new Array<>();
+    private int tilesDrawn;
+
+    /** Layers are drawn in the order they are added, so add the farthest first. */
+    public BackgroundRenderer addLayer(TextureRegion region, float parallax, float y, float scale) {
+        layers.add(new Layer(region, parallax, y, scale));
+        return this;
+    }
+
+    public BackgroundRenderer addLayer(TextureRegion region, float parallax) {
+        return addLayer(region, parallax, 0f, 1f);
+    }
+
+    /**
+     * Draws every layer for the current camera. The batch must already be begun with the camera's projection.
+     */
+    public void draw(Batch batch, Camera cam) {
+        float zoom = (cam instanceof OrthographicCamera) ? ((OrthographicCamera) cam).zoom : 1f;
+        float halfW = cam.viewportWidth * zoom / 2f;
+        float halfH = cam.viewportHeight * zoom / 2f;
+        float left = cam.position.x - halfW, right = cam.position.x + halfW;
+        float bottom = cam.position.y - halfH, top = cam.position.y + halfH;
+
+        tilesDrawn = 0;
+        for (int l = 0; l < layers.size; l++) {
+            Layer layer = layers.get(l);
+            if (layer.y >= top || layer.y + layer.tileHeight <= bottom) continue;
+
+            // layer dengan parallax < 1 ikut kamera sebagian, jadi tampak lebih jauh
+            float origin = left * (1f - layer.parallax);
+            int first = (int) Math.floor((left - origin) / layer.tileWidth);
+            int last = (int) Math.floor((right - origin) / layer.tileWidth);
+            for (int i = first; i <= last; i++) {
+                batch.draw(layer.region, origin + i * layer.tileWidth, layer.y, layer.tileWidth, layer.tileHeight);
+                tilesDrawn++;
+            }
+        }
+    }
+
+    public Array<Layer> getLayers() { return layers; }
+    public int getTilesDrawn() { return tilesDrawn; }
+}
@@ -1,30 +1,42 @@
 package com.gdx;
 
-import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
 
-class Bomb {
-    public Rectangle rect;
+class Bomb implements Pool.Poolable {
+    public final Rectangle rect = new Rectangle();
+    public float prevX, prevY; // untuk interpolasi render
     public TextureRegion sprite;
     public boolean exploded = false;
     public float velX;
     public float velY = -200f;  // jatuh ke bawah
 
-    public Bomb(float x, float y, float targetX, TextureRegion tex) {
-        rect = new Rectangle(x, y, 50, 50);
+    public Bomb init(float x, float y, float targetX, TextureRegion tex) {
+        rect.set(x, y, 50, 50);
+        prevX = x;
+        prevY = y;
         sprite = tex;
         float speedX = 200f;
         velX = (targetX > x) ? speedX : -speedX;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        sprite = null;
+        exploded = false;
+        velX = 0f;
+        velY = -200f;
     }
 
     public void update(float delta) {
+        prevX = rect.x;
+        prevY = rect.y;
         rect.x += velX * delta;
         rect.y += velY * delta;
         if (rect.y <= 0) {
@@ -38,7 +50,7 @@ class Bomb {
     }
 }
 
-class Explosion {
+class Explosion implements Pool.Poolable {
     public boolean hasDamaged = false;
     public float x, y;
     public float life = 0.3f;
@@ -47,10 +59,19 @@ class Explosion {
     float stateTime = 0f;
     Animation<TextureRegion> anim;
 
-    public Explosion(float x, float y, Animation<TextureRegion> anim) {
+    public Explosion init(float x, float y, Animation<TextureRegion> anim) {
         this.x = x;
         this.y = y;
         this.anim = anim;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        hasDamaged = false;
+        life = 0.3f;
+        stateTime = 0f;
+        anim = null;
     }
 
     public void update(float delta) {
@@ -63,7 +84,10 @@ class Explosion {
     }
 }
 
-public class Boss extends Actor {
+public class Boss extends GameActor {
+    // Standing.png 128x128; ukuran dari konstanta supaya World tidak butuh texture
+    public static final int FRAME_SIZE = 128;
+
     public float hp = 500f;
     public float maxHp = 500f;
 
@@ -74,8 +98,9 @@ public class Boss extends Actor {
     public State state = State.IDLE;
 
     TextureRegion idleFrame;
-    Animation<TextureRegion> runAnim;
-    Animation<TextureRegion> rollAnim;
+    TextureRegion idleFrameLeft;
+    FacingAnimation runAnim;
+    FacingAnimation rollAnim;
 
     private float stateTime = 0f;
     private float speed = 150f;
@@ -97,12 +122,10 @@ public class Boss extends Actor {
     private boolean rollHasDamaged = false;
 
     // Shoot mechanics
-    private TextureRegion bulletTex;
-    private Sound shootSound;
-
-    // Injected arrays from Main
-    private Array<Bullet> bullets;
+    // Injected arrays & pools from World
+    private ProjectileSystem projectiles;
     private Array<Bomb> bombs;
+    private EntityPools pools;
     private float shootCooldown = 0f;
     private float shootCooldownMax = 2.8f;
     private int burstCount = 0;
@@ -117,40 +140,29 @@ public class Boss extends Actor {
     }
 
 
-    public Boss(float x, float y, Texture idleTex, Texture runTex, Texture rollTex, Texture bulletTex, float scale, Sound shootSound) {
-        this.shootSound = shootSound;
-        this.bulletTex = new TextureRegion(bulletTex);
-
+    public Boss(float x, float y, GameAtlas atlas, float scale) {
         // Idle frame
-        idleFrame = new TextureRegion(idleTex);
+        idleFrame = atlas.region("Standing");
+        idleFrameLeft = atlas.mirror(idleFrame);
 
         // Run animation (4 frames)
-        TextureRegion[][] tmp = TextureRegion.split(runTex, runTex.getWidth() / 4, runTex.getHeight());
-        TextureRegion[] runFrames = new TextureRegion[4];
-        for (int i = 0; i < 4; i++) runFrames[i] = tmp[0][i];
-        runAnim = new Animation<>(0.08f, runFrames);
+        runAnim = atlas.animation(0.08f, atlas.strip("Run", 4), Animation.PlayMode.LOOP);
 
         // Roll animation (8 frames)
-        tmp = TextureRegion.split(rollTex, rollTex.getWidth() / 8, rollTex.getHeight());
-        TextureRegion[] rollFrames = new TextureRegion[8];
-        for (int i = 0; i < 8; i++) rollFrames[i] = tmp[0][i];
-        rollAnim = new Animation<>(0.08f, rollFrames);
+        rollAnim = atlas.animation(0.08f, atlas.strip("Roll", 8), Animation.PlayMode.LOOP);
 
         // Bomb texture
-        bombTex = new TextureRegion(new Texture("bomb.png"));
+        bombTex = atlas.region("bomb");
 
         // Explosion animation
-        Texture exTex = new Texture("bombEx.png");
-        tmp = TextureRegion.split(exTex, exTex.getWidth() / 4, exTex.getHeight());
-        TextureRegion[] exFrames = new TextureRegion[4];
-        for (int i = 0; i < 4; i++) exFrames[i] = tmp[0][i];
-        explosionAnim = new Animation<>(0.08f, exFrames);
+        explosionAnim = new Animation<>(0.08f, atlas.strip("bombEx", 4));
 
         // Size & hitbox
-        float w = idleTex.getWidth() * scale;
-        float h = idleTex.getHeight() * scale;
+        float w = FRAME_SIZE * scale;
+        float h = FRAME_SIZE * scale;
         setPosition(x, y);
         setSize(w, h);
+        savePreviousPosition();
         hitbox = new Rectangle(x + w * 0.25f, y + h * 0.001f, w * 0.45f, h * 0.55f);
     }
 
@@ -179,7 +191,7 @@ public class Boss extends Actor {
         bombCooldown -= delta;
         rollCooldown -= delta;
 
-        Player p = getStage().getRoot().findActor("player");
+        Player p = player();
         if (p == null) return;
 
         float bossCenter = getX() + getWidth() / 2f;
@@ -195,10 +207,10 @@ public class Boss extends Actor {
             }
 
             // Serangan: prioritas bomb → roll → burst shoot
-            if (bombCooldown <= 0f && MathUtils.randomBoolean(0.25f)) {
+            if (bombCooldown <= 0f && random().nextFloat() < 0.25f) {
                 spawnBomb(targetCenter);
                 bombCooldown = bombCooldownMax;
-            } else if (rollCooldown <= 0f && MathUtils.randomBoolean(0.35f) && dist <= 300f) {
+            } else if (rollCooldown <= 0f && random().nextFloat() < 0.35f && dist <= 300f) {
                 startRoll(targetCenter, bossCenter);
             } else if (dist <= 350f) {
                 if (burstCount == 0 && shootCooldown <= 0f) {
@@ -230,7 +242,7 @@ public class Boss extends Actor {
     private void spawnBomb(float targetX) {
         float bx = getX() + getWidth() / 2f;
         float by = getY() + getHeight() / 2f;
-        if (bombs != null) bombs.add(new Bomb(bx, by, targetX, bombTex));
+        if (bombs != null) bombs.add(pools.bombs.obtain().init(bx, by, targetX, bombTex));
     }
 
     private void chasePlayer(float targetCenter, float bossCenter, float delta) {
@@ -242,8 +254,7 @@ public class Boss extends Actor {
 
     private void clampPosition() {
         if (getX() < 0) setX(0);
-        // 5000 adalah contoh arena width — sesuaikan kalau perlu
-        if (getX() + getWidth() > 5000) setX(5000 - getWidth());
+        if (getX() + getWidth() > World.WIDTH) setX(World.WIDTH - getWidth());
     }
 
     private void updateHitbox() {
@@ -281,7 +292,7 @@ public class Boss extends Actor {
         // contoh: single-contact damage selama roll (opsional)
         // jika ingin aktifkan, pastikan Player punya method yang sesuai (mis. getBounds() dan takeDamage())
         /*
-        Player p = getStage().getRoot().findActor("player");
+        Player p = player();
         if (p != null && !rollHasDamaged) {
             if (hitbox.overlaps(p.getBounds())) {
                 p.takeDamage(25f); // sesuaikan nama method & damage
@@ -304,16 +315,13 @@ public class Boss extends Actor {
         float pistolHeightY = getHeight() * 0.22f;
         float spawnX = getX() + getWidth() / 2f;
         spawnX += facingRight ? pistolOffsetX : -pistolOffsetX;
-        float spawnY = getY() + pistolHeightY + MathUtils.random(-8f, 8f);
+        float spawnY = getY() + pistolHeightY + (random().nextFloat() * 16f - 8f);
         float vel = facingRight ? 380f : -380f;
 
-        if (shootSound != null) shootSound.play(0.9f);
+        if (world != null) world.emit(World.Event.BOSS_SHOT, spawnX, spawnY);
 
-        if (bullets != null) {
-            Bullet bossBullet = new Bullet(bulletTex, spawnX, spawnY, 40, 40, vel, 0, target);
-            bossBullet.rotation = facingRight ? 0 : 180;
-            bullets.add(bossBullet);
-            getStage().addActor(bossBullet);
+        if (projectiles != null) {
+            projectiles.spawn(ProjectileSystem.OWNER_BOSS, spawnX, spawnY, 40, 40, vel, 0, 10f);
         }
     }
 
@@ -321,28 +329,22 @@ public class Boss extends Actor {
     public void draw(Batch batch, float parentAlpha) {
         TextureRegion frame;
         switch (state) {
-            case ROLL: frame = rollAnim.getKeyFrame(stateTime, true); break;
-            case RUN:  frame = runAnim.getKeyFrame(stateTime, true);  break;
+            case ROLL: frame = rollAnim.getKeyFrame(stateTime, true, facingRight); break;
+            case RUN:  frame = runAnim.getKeyFrame(stateTime, true, facingRight);  break;
             default:
                 float breathe = MathUtils.sin(stateTime * 4f) * 2f;
-                frame = idleFrame;
-                TextureRegion r = new TextureRegion(frame);
-                if (!facingRight && !r.isFlipX()) r.flip(true, false);
-                if (facingRight && r.isFlipX()) r.flip(true, false);
-                batch.draw(r, getX() + breathe, getY() - 20f + breathe * 0.5f, getWidth(), getHeight());
+                frame = facingRight ? idleFrame : idleFrameLeft;
+                batch.draw(frame, drawX() + breathe, drawY() - 20f + breathe * 0.5f, getWidth(), getHeight());
                 return;
         }
 
-        TextureRegion r = new TextureRegion(frame);
-        if (!facingRight && !r.isFlipX()) r.flip(true, false);
-        if (facingRight && r.isFlipX()) r.flip(true, false);
-
-        batch.draw(r, getX(), getY() - 20f, getWidth(), getHeight());
+        batch.draw(frame, drawX(), drawY() - 20f, getWidth(), getHeight());
     }
 
     public Rectangle getHitbox() { return hitbox; }
     public Animation<TextureRegion> getExplosionAnim() { return explosionAnim; }
     public void setActive(boolean v) { this.active = v; }
-    public void setBulletsArray(Array<Bullet> arr) { this.bullets = arr; }
+    public void setProjectiles(ProjectileSystem projectiles) { this.projectiles = projectiles; }
     public void setBombsArray(Array<Bomb> arr) { this.bombs = arr; }
+    public void setPools(EntityPools pools) { this.pools = pools; }
 }
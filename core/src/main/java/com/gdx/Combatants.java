@@ -0,0 +1,283 @@
+package com.gdx;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Component storage for every enemy combatant: one dense primitive array per component, where an
+ * enemy is just an index. The systems (EnemyAiSystem, EnemyWeaponSystem) and World iterate these
+ * arrays front to back. As in ProjectileSystem, a removed enemy is replaced by the last one,
+ * so indices are only valid within one step.
+ * The player and the boss are single actors with their own logic and are not stored here.
+ */
+public class Combatants {
+    public static final int IDLE = 0;
+    public static final int WALK = 1;
+    public static final int RUN = 2;
+    public static final int SHOOT = 3;
+    public static final int DIE = 4;
+
+    private int size;
+
+    // transform
+    float[] x, y, prevX, prevY;
+    float[] width, height;
+    boolean[] facingRight;
+    // hitbox; posisinya diturunkan dari transform + rasio archetype
+    float[] hitX, hitY, hitW, hitH;
+    // health
+    float[] hp, maxHp;
+    float[] damageCooldown;
+    boolean[] dead;
+    float[] deathTime;
+    // animasi: state + waktu di state itu, frame diambil dari archetype
+    int[] state;
+    float[] stateTime;
+    // AI & senjata
+    float[] speed;
+    float[] patrolTargetX;
+    float[] delayTimer;
+    boolean[] detectedPlayer;
+    float[] shootCooldown; // detik simulasi sampai boleh menembak lagi
+    boolean[] firedThisShot;
+    // AI level-of-detail (lihat EnemyAiSystem): tier dan waktu sejak keputusan terakhir
+    int[] lod;
+    float[] thinkTime;
+    // animasi, ukuran & stat dibagi dengan semua musuh sejenis
+    EnemyArchetype[] type;
+
+    // RNG milik World, untuk target patrol
+    private final Random random;
+
+    public Combatants(int initialCapacity, Random random) {
+        this.random = random;
+        allocate(initialCapacity);
+    }
+
+    /** Adds an enemy of the given type standing at (x, y) and returns its index. */
+    public int spawn(float startX, float startY, EnemyArchetype type) {
+        if (size == x.length) allocate(size * 2);
+        int i = size++;
+        this.type[i] = type;
+        x[i] = startX;
+        y[i] = startY;
+        prevX[i] = startX;
+        prevY[i] = startY;
+        width[i] = type.getWidth();
+        height[i] = type.getHeight();
+        facingRight[i] = true;
+
+        hitW[i] = width[i] * type.hitboxW;
+        hitH[i] = height[i] * type.hitboxH;
+        updateHitbox(i);
+
+        hp[i] = type.maxHp;
+        maxHp[i] = type.maxHp;
+        damageCooldown[i] = 0f;
+        dead[i] = false;
+        deathTime[i] = 0f;
+
+        state[i] = IDLE;
+        stateTime[i] = 0f;
+
+        speed[i] = type.speed;
+        delayTimer[i] = 0f;
+        detectedPlayer[i] = false;
+        // mulai dengan cooldown penuh biar ga langsung menembak
+        shootCooldown[i] = type.fireCooldown;
+        firedThisShot[i] = false;
+        lod[i] = EnemyAiSystem.LOD_NEAR;
+        thinkTime[i] = 0f;
+
+        pickPatrolTarget(i);
+        return i;
+    }
+
+    public void takeDamage(int i, float dmg) {
+        if (dead[i] || damageCooldown[i] > 0) return;
+        damageCooldown[i] = 0.3f;
+        hp[i] -= dmg;
+        if (hp[i] <= 0) {
+            dead[i] = true;
+            hp[i] = 0;
+            stateTime[i] = 0f;
+            deathTime[i] = 0f;
+        }
+    }
+
+    /** True once the enemy died and its death animation has finished; World then removes it. */
+    public boolean isDead(int i) {
+        return dead[i] && type[i].dieAnim.isAnimationFinished(deathTime[i]);
+    }
+
+    /** Index of the first living enemy whose hitbox overlaps area, or -1. */
+    public int overlapping(Rectangle area) {
+        float ax = area.x, ay = area.y, ax2 = area.x + area.width, ay2 = area.y + area.height;
+        for (int i = 0; i < size; i++) {
+            if (dead[i]) continue;
+            if (hitX[i] < ax2 && hitX[i] + hitW[i] > ax && hitY[i] < ay2 && hitY[i] + hitH[i] > ay) return i;
+        }
+        return -1;
+    }
+
+    void updateHitbox(int i) {
+        EnemyArchetype t = type[i];
+        hitX[i] = x[i] + width[i] * t.hitboxX;
+        hitY[i] = y[i] + height[i] * t.hitboxY;
+    }
+
+    void pickPatrolTarget(int i) {
+        float move = 150 + random.nextInt(251);
+        if (random.nextBoolean()) {
+            patrolTargetX[i] = x[i] + move;
+            facingRight[i] = true;
+        } else {
+            patrolTargetX[i] = Math.max(0, x[i] - move);
+            facingRight[i] = false;
+        }
+    }
+
+    public void savePreviousPositions() {
+        System.arraycopy(x, 0, prevX, 0, size);
+        System.arraycopy(y, 0, prevY, 0, size);
+    }
+
+    /** Draws the enemies inside view between their last two positions; alpha as in GameActor.renderAlpha. */
+    public void draw(Batch batch, float alpha, ViewBounds view) {
+        for (int i = 0; i < size; i++) {
+            float dx = prevX[i] + (x[i] - prevX[i]) * alpha;
+            float dy = prevY[i] + (y[i] - prevY[i]) * alpha;
+            if (!view.visible(dx, dy, width[i], height[i])) continue;
+            batch.draw(frame(i), dx, dy, width[i], height[i]);
+        }
+    }
+
+    private TextureRegion frame(int i) {
+        EnemyArchetype t = type[i];
+        boolean right = facingRight[i];
+        switch (state[i]) {
+            case DIE: return t.dieAnim.getKeyFrame(deathTime[i], false, right);
+            case SHOOT: return t.shootAnim.getKeyFrame(stateTime[i], false, right);
+            case RUN: return t.runAnim.getKeyFrame(stateTime[i], true, right);
+            case WALK: return t.walkAnim.getKeyFrame(stateTime[i], true, right);
+            default: return t.idleAnim.getKeyFrame(stateTime[i], true, right);
+        }
+    }
+
+    public float getHitX(int i) { return hitX[i]; }
+    public float getHitY(int i) { return hitY[i]; }
+    public float getHitWidth(int i) { return hitW[i]; }
+    public float getHitHeight(int i) { return hitH[i]; }
+    public float getHp(int i) { return hp[i]; }
+    public float getMaxHp(int i) { return maxHp[i]; }
+    public int getState(int i) { return state[i]; }
+    public int getLod(int i) { return lod[i]; }
+    public EnemyArchetype getType(int i) { return type[i]; }
+
+    public void clear() {
+        // referensi archetype dilepas supaya array tidak menahan apa pun
+        Arrays.fill(type, 0, size, null);
+        size = 0;
+    }
+
+    public int size() { return size; }
+    public int capacity() { return x.length; }
+
+    public void remove(int i) {
+        int last = --size;
+        if (i != last) {
+            x[i] = x[last];
+            y[i] = y[last];
+            prevX[i] = prevX[last];
+            prevY[i] = prevY[last];
+            width[i] = width[last];
+            height[i] = height[last];
+            facingRight[i] = facingRight[last];
+            hitX[i] = hitX[last];
+            hitY[i] = hitY[last];
+            hitW[i] = hitW[last];
+            hitH[i] = hitH[last];
+            hp[i] = hp[last];
+            maxHp[i] = maxHp[last];
+            damageCooldown[i] = damageCooldown[last];
+            dead[i] = dead[last];
+            deathTime[i] = deathTime[last];
+            state[i] = state[last];
+            stateTime[i] = stateTime[last];
+            speed[i] = speed[last];
+            patrolTargetX[i] = patrolTargetX[last];
+            delayTimer[i] = delayTimer[last];
+            detectedPlayer[i] = detectedPlayer[last];
+            shootCooldown[i] = shootCooldown[last];
+            firedThisShot[i] = firedThisShot[last];
+            lod[i] = lod[last];
+            thinkTime[i] = thinkTime[last];
+            type[i] = type[last];
+        }
+        type[last] = null;
+    }
+
+    private void allocate(int capacity) {
+        if (x == null) {
+            x = new float[capacity];
+            y = new float[capacity];
+            prevX = new float[capacity];
+            prevY = new float[capacity];
+            width = new float[capacity];
+            height = new float[capacity];
+            facingRight = new boolean[capacity];
+            hitX = new float[capacity];
+            hitY = new float[capacity];
+            hitW = new float[capacity];
+            hitH = new float[capacity];
+            hp = new float[capacity];
+            maxHp = new float[capacity];
+            damageCooldown = new float[capacity];
+            dead = new boolean[capacity];
+            deathTime = new float[capacity];
+            state = new int[capacity];
+            stateTime = new float[capacity];
+            speed = new float[capacity];
+            patrolTargetX = new float[capacity];
+            delayTimer = new float[capacity];
+            detectedPlayer = new boolean[capacity];
+            shootCooldown = new float[capacity];
+            firedThisShot = new boolean[capacity];
+            lod = new int[capacity];
+            thinkTime = new float[capacity];
+            type = new EnemyArchetype[capacity];
+            return;
+        }
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        facingRight = Arrays.copyOf(facingRight, capacity);
+        hitX = Arrays.copyOf(hitX, capacity);
+        hitY = Arrays.copyOf(hitY, capacity);
+        hitW = Arrays.copyOf(hitW, capacity);
+        hitH = Arrays.copyOf(hitH, capacity);
+        hp = Arrays.copyOf(hp, capacity);
+        maxHp = Arrays.copyOf(maxHp, capacity);
+        damageCooldown = Arrays.copyOf(damageCooldown, capacity);
+        dead = Arrays.copyOf(dead, capacity);
+        deathTime = Arrays.copyOf(deathTime, capacity);
+        state = Arrays.copyOf(state, capacity);
+        stateTime = Arrays.copyOf(stateTime, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        patrolTargetX = Arrays.copyOf(patrolTargetX, capacity);
+        delayTimer = Arrays.copyOf(delayTimer, capacity);
+        detectedPlayer = Arrays.copyOf(detectedPlayer, capacity);
+        shootCooldown = Arrays.copyOf(shootCooldown, capacity);
+        firedThisShot = Arrays.copyOf(firedThisShot, capacity);
+        lod = Arrays.copyOf(lod, capacity);
+        thinkTime = Arrays.copyOf(thinkTime, capacity);
+        type = Arrays.copyOf(type, capacity);
+    }
+}
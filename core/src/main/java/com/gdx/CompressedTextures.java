@@ -0,0 +1,52 @@
+package com.gdx;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.glutils.GLVersion;
+
+/**
+ * Resolves "x.png" to the ETC2 "compressed/x.ktx" made by :core:compressTextures when the GL context
+ * can sample ETC2 and the file exists; otherwise the PNG is used as before. "x.atlas" maps to
+ * "compressed/x.atlas", whose pages point at the .ktx copies.
+ * Start with -Dgdx.textures.compressed=false to force the PNGs, e.g. to compare memory and load times.
+ */
+public class CompressedTextures implements FileHandleResolver {
+    public static final String DIR = "compressed/";
+
+    private final FileHandleResolver base = new InternalFileHandleResolver();
+    private final boolean enabled;
+
+    public CompressedTextures() {
+        boolean wanted = !"false".equals(System.getProperty("gdx.textures.compressed"));
+        enabled = wanted && isEtc2Supported();
+        Gdx.app.log("CompressedTextures", enabled ? "ETC2 aktif" : "ETC2 tidak dipakai, memuat PNG");
+    }
+
+    @Override
+    public FileHandle resolve(String fileName) {
+        if (enabled) {
+            String alt = null;
+            if (fileName.endsWith(".png")) alt = DIR + fileName.substring(0, fileName.length() - 4) + ".ktx";
+            else if (fileName.endsWith(".atlas")) alt = DIR + fileName;
+            if (alt != null) {
+                FileHandle compressed = base.resolve(alt);
+                if (compressed.exists()) return compressed;
+            }
+        }
+        return base.resolve(fileName);
+    }
+
+    public boolean isEnabled() { return enabled; }
+
+    /**
+     * ETC2 is core in OpenGL ES 3.0 and OpenGL 4.3; older desktop contexts may expose it through
+     * ARB_ES3_compatibility (Mesa llvmpipe does).
+     */
+    public static boolean isEtc2Supported() {
+        GLVersion version = Gdx.graphics.getGLVersion();
+        if (version.getType() == GLVersion.Type.GLES) return version.isVersionEqualToOrHigher(3, 0);
+        return version.isVersionEqualToOrHigher(4, 3) || Gdx.graphics.supportsExtension("GL_ARB_ES3_compatibility");
+    }
+}
@@ -0,0 +1,55 @@
+package com.gdx;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Yellow hitbox outlines for the player, the boss and every visible enemy.
+ * Off by default: F3 toggles it, -Dgdx.debug.hitboxes=true starts with it on.
+ * The ShapeRenderer is only created the first time the overlay is shown, so normal play
+ * never opens a second renderer.
+ */
+public class DebugOverlay implements Disposable {
+    public static final int TOGGLE_KEY = Input.Keys.F3;
+
+    public boolean enabled = Boolean.getBoolean("gdx.debug.hitboxes");
+    private ShapeRenderer shapeR;
+
+    /** Call once per frame to handle the toggle key. */
+    public void pollToggle() {
+        if (Gdx.input.isKeyJustPressed(TOGGLE_KEY)) enabled = !enabled;
+    }
+
+    public void draw(Camera cam, World world, ViewBounds view) {
+        if (!enabled) return;
+        if (shapeR == null) shapeR = new ShapeRenderer();
+
+        shapeR.setProjectionMatrix(cam.combined);
+        shapeR.begin(ShapeRenderer.ShapeType.Line);
+        shapeR.setColor(Color.YELLOW);
+        EntityRegistry entities = world.getEntities();
+        rect(entities.getPlayer().getHitbox());
+        Boss boss = entities.getBoss();
+        if (view.visible(boss.getHitbox())) rect(boss.getHitbox());
+        Combatants enemies = entities.getEnemies();
+        for (int i = 0; i < enemies.size(); i++) {
+            float x = enemies.getHitX(i), y = enemies.getHitY(i), w = enemies.getHitWidth(i), h = enemies.getHitHeight(i);
+            if (view.visible(x, y, w, h)) shapeR.rect(x, y, w, h);
+        }
+        shapeR.end();
+    }
+
+    private void rect(Rectangle r) {
+        shapeR.rect(r.x, r.y, r.width, r.height);
+    }
+
+    @Override
+    public void dispose() {
+        if (shapeR != null) shapeR.dispose();
+    }
+}
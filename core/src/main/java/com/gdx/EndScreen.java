@@ -2,67 +2,63 @@ package com.gdx;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
-import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 
 public class EndScreen implements Screen {
     private final Main game;
+    private final AssetManager assets;
     private Stage stage;
 
     // --- Audio ---
-    private Music winMusic;
 
     // --- Assets untuk End Screen Cerita ---
-    private final String[] winImages = {
-        "win1.png",
-        "win2.png",
-        "win3.png",
-        "win4.png",
-        "win5.png"
-    };
-
-    private Array<Texture> textures = new Array<>();
+    // gambar (Assets.WIN_SLIDES) di-stream Slideshow: slide berikutnya disiapkan selama slide ini tampil
+    private final Slideshow slideshow;
     private Image currentImage;
-    private int currentIndex = 0;
     private float timer = 0f;
     private boolean isTransitioning = false;
+    private boolean waitingForSlide = false; // slide berikutnya belum selesai di-upload
 
     public EndScreen(Main game) {
         this.game = game;
+        this.assets = game.getAssets();
+        slideshow = new Slideshow(Assets.WIN_SLIDES, assets.getFileHandleResolver());
         stage = new Stage(new ScreenViewport());
 
         // --- SETUP AUDIO ---
-        try {
-            winMusic = Gdx.audio.newMusic(Gdx.files.internal("sound/win.ogg"));
-            winMusic.setLooping(false); // Musik menang biasanya sekali putar atau loop, terserah
-            winMusic.setVolume(1.0f);
-            winMusic.play();
-        } catch (Exception e) {
-            System.out.println("Error memuat musik win: " + e.getMessage());
-        }
+        // Musik menang sekali putar, crossfade dari musik boss (sudah di-preload GameScreen)
+        game.getMusic().play(Assets.WIN_MUSIC, false, 1.0f, MusicManager.DEFAULT_FADE);
 
-        // Langsung mulai menampilkan gambar pertama
-        loadNextImage();
+        // Gambar pertama ditampilkan di render() pertama, bukan di sini: kalau deck kosong
+        // loadNextImage() langsung pindah screen, dan itu tidak boleh terjadi dari constructor
+        // (masih di dalam setScreen milik LoadingScreen)
+        waitingForSlide = true;
     }
 
     /**
-     * Memuat gambar cerita kemenangan berikutnya dari array winImages.
+     * Menampilkan gambar cerita kemenangan berikutnya dari Slideshow.
      */
     private void loadNextImage() {
-        if (currentIndex >= winImages.length) {
+        if (slideshow.isFinished()) {
             // Jika gambar habis, kembali ke IntroScreen (Menu Awal)
             backToIntro();
             return;
         }
+        if (!slideshow.isNextReady()) {
+            // render() mencoba lagi tiap frame sampai slide siap
+            waitingForSlide = true;
+            return;
+        }
+        waitingForSlide = false;
 
-        Texture tex = new Texture(winImages[currentIndex]);
-        textures.add(tex); // Simpan referensi texture untuk didispose nanti
+        // slide sebelumnya langsung di-dispose oleh Slideshow
+        Texture tex = slideshow.advance();
 
         currentImage = new Image(tex);
         currentImage.setFillParent(true);
@@ -81,13 +77,18 @@ public class EndScreen implements Screen {
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        stage.act(delta);
-        stage.draw();
+        slideshow.update();
+        JfrEvents.act(stage, "EndScreen", delta);
+        JfrEvents.draw(stage, "EndScreen");
 
         // ==========================================
         // LOGIKA SLIDESHOW
         // ==========================================
         if (isTransitioning) return;
+        if (waitingForSlide) {
+            loadNextImage();
+            return;
+        }
 
         timer += delta;
 
@@ -109,7 +110,6 @@ public class EndScreen implements Screen {
         currentImage.addAction(Actions.sequence(
             Actions.fadeOut(1.0f),
             Actions.run(() -> {
-                currentIndex++;
                 isTransitioning = false;
                 loadNextImage();
             })
@@ -119,16 +119,14 @@ public class EndScreen implements Screen {
     private void backToIntro() {
         isTransitioning = true;
 
+        // IntroScreen nanti crossfade dari musik ini ke musik intro
+        game.getMusic().preload(Assets.INTRO_MUSIC);
+
         // Siapkan perintah pindah screen
         Runnable switchScreen = () -> {
-            // STOP MUSIK SEBELUM PINDAH
-            if (winMusic != null && winMusic.isPlaying()) {
-                winMusic.stop();
-            }
-
             // Kembali ke Menu Awal (IntroScreen)
             // Pastikan Anda sudah punya IntroScreen yang siap menerima parameter game
-            game.setScreen(new IntroScreen(game));
+            game.setScreen(new LoadingScreen(game, Assets.INTRO, Assets.END, () -> new IntroScreen(game)));
             dispose(); // Bersihkan memori EndScreen
         };
 
@@ -155,15 +153,7 @@ public class EndScreen implements Screen {
     @Override
     public void dispose() {
         stage.dispose();
-
-        // Dispose musik
-        if (winMusic != null) {
-            winMusic.dispose();
-        }
-
-        // Dispose semua texture yang dimuat
-        for (Texture t : textures) {
-            if (t != null) t.dispose();
-        }
+        slideshow.dispose();
+        // musik milik MusicManager dan tetap jalan sampai IntroScreen menggantinya
     }
 }
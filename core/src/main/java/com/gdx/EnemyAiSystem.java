@@ -0,0 +1,211 @@
+package com.gdx;
+
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Enemy behaviour: detect the player, wait a moment, then chase, stop to shoot or patrol.
+ * Also advances the animation and cooldown timers and keeps the hitbox on the enemy.
+ * Whether a shot actually fires is decided afterwards by EnemyWeaponSystem.
+ *
+ * Work is scaled by level of detail:
+ * LOD_NEAR enemies (close to the player) decide every step; LOD_FAR enemies keep moving every step
+ * but only re-decide about every FAR_INTERVAL steps, round-robin, within what is left of decisionBudget;
+ * LOD_DORMANT enemies are more than WAKE_MARGIN outside the camera view (setView) and are frozen
+ * until the view comes closer. Without a view (headless) no enemy is dormant.
+ * Dead enemies only advance their death animation clock until World removes them.
+ */
+public class EnemyAiSystem implements GameSystem {
+    public static final int LOD_NEAR = 0;
+    public static final int LOD_FAR = 1;
+    public static final int LOD_DORMANT = 2;
+
+    private static final float DETECT_RANGE = 450f;
+    private static final float SHOOT_RANGE = 250f;
+    private static final float CHASE_RANGE = 600f;
+    private static final float DETECT_DELAY = 1.0f;
+    private static final float RUN_MULTIPLIER = 1.5f;
+
+    // NEAR melebihi CHASE_RANGE supaya musuh sudah berpikir penuh sebelum masuk jarak kejar
+    private static final float NEAR_RANGE = 800f;
+    // jarak di luar view sebelum musuh dibekukan; cukup jauh supaya patrol tidak terlihat berhenti di tepi layar
+    private static final float WAKE_MARGIN = 400f;
+    private static final int FAR_INTERVAL = 4;
+
+    /** Most decisions per step; near enemies always decide, far ones share what is left. */
+    public int decisionBudget = Integer.getInteger("gdx.ai.decisionsPerStep", 64);
+
+    private final Combatants c;
+    private final EntityRegistry entities;
+
+    // posisi round-robin untuk tier FAR; index bisa bergeser karena remove(), cukup untuk pemerataan
+    private int cursor;
+
+    // area yang dilihat kamera, diisi ulang tiap frame oleh pemiliknya (ViewBounds.rect)
+    private Rectangle view;
+
+    // angka step terakhir
+    private int near, far, dormant, decisions;
+
+    public EnemyAiSystem(EntityRegistry entities) {
+        this.entities = entities;
+        this.c = entities.getEnemies();
+    }
+
+    /** Camera view used for the dormant tier; null or empty means nothing goes dormant. */
+    public void setView(Rectangle view) {
+        this.view = view;
+    }
+
+    @Override
+    public void update(float delta) {
+        Player player = entities.getPlayer();
+        // posisi player cukup dihitung sekali untuk semua musuh
+        float playerCenter = 0f;
+        if (player != null) playerCenter = player.getHitbox().x + player.getHitbox().width / 2f;
+
+        // array komponen diambil sekali ke local supaya loop tidak membaca field berulang-ulang
+        boolean[] dead = c.dead;
+        float[] deathTime = c.deathTime, stateTime = c.stateTime, shootCooldown = c.shootCooldown;
+        float[] damageCooldown = c.damageCooldown, thinkTime = c.thinkTime;
+        float[] x = c.x, y = c.y, width = c.width, height = c.height;
+        int[] state = c.state, lod = c.lod;
+
+        boolean culling = view != null && view.width > 0;
+        float wakeX = 0, wakeY = 0, wakeX2 = 0, wakeY2 = 0;
+        if (culling) {
+            wakeX = view.x - WAKE_MARGIN;
+            wakeY = view.y - WAKE_MARGIN;
+            wakeX2 = view.x + view.width + WAKE_MARGIN;
+            wakeY2 = view.y + view.height + WAKE_MARGIN;
+        }
+
+        near = far = dormant = decisions = 0;
+        int n = c.size();
+        for (int i = 0; i < n; i++) {
+            if (dead[i]) {
+                deathTime[i] += delta;
+                state[i] = Combatants.DIE;
+                continue;
+            }
+
+            if (player == null) {
+                // tidak ada player (mis. world tanpa player): patrol
+                stateTime[i] += delta;
+                if (shootCooldown[i] > 0) shootCooldown[i] -= delta;
+                state[i] = Combatants.WALK;
+                patrol(i, delta);
+                c.updateHitbox(i);
+                continue;
+            }
+
+            if (culling && (x[i] + width[i] < wakeX || x[i] > wakeX2 || y[i] + height[i] < wakeY || y[i] > wakeY2)) {
+                lod[i] = LOD_DORMANT;
+                dormant++;
+                continue;
+            }
+
+            stateTime[i] += delta;
+            if (shootCooldown[i] > 0) shootCooldown[i] -= delta;
+            if (damageCooldown[i] > 0) damageCooldown[i] -= delta;
+            thinkTime[i] += delta;
+
+            float dist = Math.abs(x[i] + width[i] / 2f - playerCenter);
+            if (dist <= NEAR_RANGE) {
+                lod[i] = LOD_NEAR;
+                near++;
+                decide(i, dist);
+            } else {
+                lod[i] = LOD_FAR;
+                far++;
+            }
+
+            // gerak tiap step sesuai keputusan terakhir, juga untuk tier FAR
+            int s = state[i];
+            if (s == Combatants.RUN) {
+                chase(i, playerCenter, delta);
+            } else if (s == Combatants.WALK) {
+                patrol(i, delta);
+            } else if (s == Combatants.SHOOT && c.type[i].shootAnim.isAnimationFinished(stateTime[i])) {
+                // setelah animasi SHOOT selesai kembali ke IDLE dan cooldown dimulai lagi
+                stateTime[i] = 0f;
+                shootCooldown[i] = c.type[i].fireCooldown;
+                state[i] = Combatants.IDLE;
+            }
+            c.updateHitbox(i);
+        }
+
+        if (player == null || far == 0) return;
+
+        // tier FAR: sekitar far / FAR_INTERVAL keputusan per step, dipotong sisa budget
+        int quota = Math.min(decisionBudget - decisions, (far + FAR_INTERVAL - 1) / FAR_INTERVAL);
+        for (int visited = 0; quota > 0 && visited < n; visited++) {
+            if (cursor >= n) cursor = 0;
+            int i = cursor++;
+            if (dead[i] || lod[i] != LOD_FAR) continue;
+            decide(i, Math.abs(x[i] + width[i] / 2f - playerCenter));
+            quota--;
+        }
+    }
+
+    /** Picks the next state from the distance to the player; thinkTime is the time since the last decision. */
+    private void decide(int i, float dist) {
+        float elapsed = c.thinkTime[i];
+        c.thinkTime[i] = 0f;
+        decisions++;
+
+        boolean detected = c.detectedPlayer[i] || dist <= DETECT_RANGE;
+        c.detectedPlayer[i] = detected;
+
+        int next;
+        if (!detected) {
+            next = Combatants.WALK;
+        } else if ((c.delayTimer[i] += elapsed) < DETECT_DELAY) {
+            next = Combatants.IDLE;
+        } else if (dist <= SHOOT_RANGE) {
+            // dalam radius tembak: berhenti; kalau cooldown siap -> SHOOT, kalau belum tetap IDLE
+            next = c.shootCooldown[i] <= 0f ? Combatants.SHOOT : Combatants.IDLE;
+            if (next == Combatants.SHOOT && c.state[i] != Combatants.SHOOT) {
+                c.stateTime[i] = 0f;
+                c.firedThisShot[i] = false;
+            }
+        } else if (dist <= CHASE_RANGE) {
+            next = Combatants.RUN;
+        } else {
+            // player terlihat tapi jauh -> patrol
+            next = Combatants.WALK;
+        }
+        c.state[i] = next;
+    }
+
+    private void chase(int i, float playerCenter, float delta) {
+        float step = c.speed[i] * RUN_MULTIPLIER * delta;
+        if (playerCenter > c.x[i] + c.width[i] / 2f) {
+            c.x[i] += step;
+            c.facingRight[i] = true;
+        } else {
+            c.x[i] -= step;
+            c.facingRight[i] = false;
+        }
+        clampPosition(i);
+    }
+
+    private void patrol(int i, float delta) {
+        boolean right = c.facingRight[i];
+        float x = right ? c.x[i] + c.speed[i] * delta : c.x[i] - c.speed[i] * delta;
+        c.x[i] = x;
+        if (right ? x >= c.patrolTargetX[i] : x <= c.patrolTargetX[i]) c.pickPatrolTarget(i);
+        clampPosition(i);
+    }
+
+    private void clampPosition(int i) {
+        float x = c.x[i], max = World.WIDTH - c.width[i];
+        if (x < 0) c.x[i] = 0;
+        else if (x > max) c.x[i] = max;
+    }
+
+    public int getNearCount() { return near; }
+    public int getFarCount() { return far; }
+    public int getDormantCount() { return dormant; }
+    /** Decisions made in the last step, near and far together. */
+    public int getDecisions() { return decisions; }
+}
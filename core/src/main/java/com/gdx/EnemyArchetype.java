@@ -0,0 +1,56 @@
+package com.gdx;
+
+/**
+ * Everything that is the same for every enemy of one type: animations, size, hitbox ratios and stats.
+ * Instances are built once by EnemyArchetypes and shared by all enemies of that type.
+ */
+public class EnemyArchetype {
+    public final String id;
+
+    // === ANIMASI ===
+    public final FacingAnimation idleAnim;
+    public final FacingAnimation walkAnim;
+    public final FacingAnimation runAnim;
+    public final FacingAnimation shootAnim;
+    public final FacingAnimation dieAnim;
+
+    // ukuran frame di sheet (px) dan skala gambar di world
+    public final float frameSize;
+    public final float scale;
+
+    // hitbox relatif terhadap ukuran actor
+    public final float hitboxX, hitboxY, hitboxW, hitboxH;
+
+    public final float maxHp;
+    public final float speed;
+    public final float fireCooldown; // detik
+
+    public EnemyArchetype(String id,
+                          FacingAnimation idleAnim,
+                          FacingAnimation walkAnim,
+                          FacingAnimation runAnim,
+                          FacingAnimation shootAnim,
+                          FacingAnimation dieAnim,
+                          float frameSize, float scale,
+                          float hitboxX, float hitboxY, float hitboxW, float hitboxH,
+                          float maxHp, float speed, float fireCooldown) {
+        this.id = id;
+        this.idleAnim = idleAnim;
+        this.walkAnim = walkAnim;
+        this.runAnim = runAnim;
+        this.shootAnim = shootAnim;
+        this.dieAnim = dieAnim;
+        this.frameSize = frameSize;
+        this.scale = scale;
+        this.hitboxX = hitboxX;
+        this.hitboxY = hitboxY;
+        this.hitboxW = hitboxW;
+        this.hitboxH = hitboxH;
+        this.maxHp = maxHp;
+        this.speed = speed;
+        this.fireCooldown = fireCooldown;
+    }
+
+    public float getWidth() { return frameSize * scale; }
+    public float getHeight() { return frameSize * scale; }
+}
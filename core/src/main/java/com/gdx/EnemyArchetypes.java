@@ -0,0 +1,70 @@
+package com.gdx;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.util.Random;
+
+/**
+ * Registry of every enemy type in the game. Animations are cut from the atlas once here,
+ * so spawning more enemies only costs the per-instance state in Combatants.
+ */
+public class EnemyArchetypes {
+    public static final String SOLDIER_1 = "soldier_1";
+    public static final String SOLDIER_2 = "soldier_2";
+    public static final String SOLDIER_3 = "soldier_3";
+    public static final String RAIDER_1 = "raider_1";
+    public static final String RAIDER_2 = "raider_2";
+    public static final String RAIDER_3 = "raider_3";
+
+    private static final float FRAME_SIZE = 128f;
+    private static final float SCALE = 2f;
+
+    private final GameAtlas atlas;
+    private final ObjectMap<String, EnemyArchetype> byId = new ObjectMap<>();
+    private final Array<EnemyArchetype> all = new Array<>();
+
+    public EnemyArchetypes(GameAtlas atlas) {
+        this.atlas = atlas;
+
+        //     id         folder                 idle walk run  shot sheet  shot dead   hp    speed cooldown
+        define(SOLDIER_1, "shooter/Soldier_1/", 7,   7,   8,   "Shot_1",   4,   4,     100f, 80f,  1.8f);
+        define(SOLDIER_2, "shooter/Soldier_2/", 9,   8,   8,   "Shot_1",   4,   4,     120f, 70f,  2.2f);
+        define(SOLDIER_3, "shooter/Soldier_3/", 7,   8,   6,   "Shot_1",   4,   5,     100f, 90f,  1.5f);
+        define(RAIDER_1,  "rider/Raider_1/",    6,   8,   8,   "Shot",     12,  4,     100f, 100f, 2.0f);
+        define(RAIDER_2,  "rider/Raider_2/",    8,   7,   8,   "Shot_1",   4,   5,     90f,  110f, 1.6f);
+        // Raider_3 tidak punya sheet tembak, Attack_1 dipakai sebagai animasi serangannya
+        define(RAIDER_3,  "rider/Raider_3/",    6,   7,   8,   "Attack_1", 5,   4,     140f, 120f, 2.4f);
+    }
+
+    private void define(String id, String folder,
+                        int idleCount, int walkCount, int runCount,
+                        String shotSheet, int shotCount, int deadCount,
+                        float maxHp, float speed, float fireCooldown) {
+        EnemyArchetype type = new EnemyArchetype(id,
+            atlas.animation(0.2f,  atlas.strip(folder + "Idle", idleCount), Animation.PlayMode.LOOP),
+            atlas.animation(0.08f, atlas.strip(folder + "Walk", walkCount), Animation.PlayMode.LOOP),
+            atlas.animation(0.08f, atlas.strip(folder + "Run", runCount), Animation.PlayMode.LOOP),
+            atlas.animation(0.08f, atlas.strip(folder + shotSheet, shotCount), Animation.PlayMode.NORMAL),
+            atlas.animation(0.12f, atlas.strip(folder + "Dead", deadCount), Animation.PlayMode.NORMAL),
+            FRAME_SIZE, SCALE,
+            0.25f, 0.001f, 0.5f, 0.75f,
+            maxHp, speed, fireCooldown);
+        byId.put(id, type);
+        all.add(type);
+    }
+
+    public EnemyArchetype get(String id) {
+        EnemyArchetype type = byId.get(id);
+        if (type == null) throw new GdxRuntimeException("Archetype musuh tidak dikenal: " + id);
+        return type;
+    }
+
+    public EnemyArchetype random(Random random) {
+        return all.get(random.nextInt(all.size));
+    }
+
+    public Array<EnemyArchetype> getAll() { return all; }
+}
@@ -0,0 +1,45 @@
+package com.gdx;
+
+/**
+ * Fires one bullet per SHOOT animation, once the animation passes FIRE_TIME, towards the side the player is on.
+ */
+public class EnemyWeaponSystem implements GameSystem {
+    private static final float FIRE_TIME = 0.12f;
+    private static final float BULLET_SPEED = 500f;
+    // dulu peluru musuh kena dua kali (Bullet.act + GameScreen), damage-nya dipertahankan
+    private static final float BULLET_DAMAGE = 20f;
+
+    private final World world;
+    private final Combatants c;
+    private final EntityRegistry entities;
+
+    public EnemyWeaponSystem(World world) {
+        this.world = world;
+        this.entities = world.getEntities();
+        this.c = entities.getEnemies();
+    }
+
+    @Override
+    public void update(float delta) {
+        for (int i = 0, n = c.size(); i < n; i++) {
+            if (c.state[i] != Combatants.SHOOT || c.firedThisShot[i] || c.stateTime[i] < FIRE_TIME) continue;
+            c.firedThisShot[i] = true;
+            fire(i);
+        }
+    }
+
+    private void fire(int i) {
+        float startX = c.hitX[i] + c.hitW[i] / 2;
+        if (c.facingRight[i]) startX += 30; else startX -= 130;
+        float startY = c.hitY[i] + c.hitH[i] / 2 - 25;
+
+        Player player = entities.getPlayer();
+        float targetX = player.getHitbox().x + player.getHitbox().width / 2;
+        float velX = (targetX > startX) ? BULLET_SPEED : -BULLET_SPEED;
+
+        entities.getProjectiles().spawn(ProjectileSystem.OWNER_ENEMY, startX, startY, 20, 20, velX, 0, BULLET_DAMAGE);
+        world.emit(World.Event.ENEMY_SHOT, startX, startY);
+
+        c.shootCooldown[i] = c.type[i].fireCooldown;
+    }
+}
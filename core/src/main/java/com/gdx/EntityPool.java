@@ -0,0 +1,38 @@
+package com.gdx;
+
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Bounded Pool that also counts how many objects are currently handed out.
+ * Objects past the max are dropped on free instead of growing the pool.
+ */
+public abstract class EntityPool<T> extends Pool<T> {
+    private final String name;
+    private int active;
+
+    public EntityPool(String name, int initialCapacity, int max) {
+        super(initialCapacity, max);
+        this.name = name;
+        fill(initialCapacity);
+    }
+
+    @Override
+    public T obtain() {
+        active++;
+        return super.obtain();
+    }
+
+    @Override
+    public void free(T object) {
+        active--;
+        super.free(object);
+    }
+
+    public String getName() { return name; }
+    public int getActive() { return active; }
+
+    @Override
+    public String toString() {
+        return name + " active=" + active + " free=" + getFree() + " peak=" + peak;
+    }
+}
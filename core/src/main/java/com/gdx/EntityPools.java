@@ -0,0 +1,20 @@
+package com.gdx;
+
+/**
+ * Pools for everything that is spawned repeatedly during a fight.
+ * Capacities are sized for the heaviest wave plus the boss burst; anything above max is left to the GC.
+ * Bullets and enemies are not pooled objects; they live in ProjectileSystem and Combatants.
+ */
+public class EntityPools {
+    public final EntityPool<Bomb> bombs = new EntityPool<Bomb>("bombs", 4, 16) {
+        @Override protected Bomb newObject() { return new Bomb(); }
+    };
+    public final EntityPool<Explosion> explosions = new EntityPool<Explosion>("explosions", 8, 32) {
+        @Override protected Explosion newObject() { return new Explosion(); }
+    };
+
+    @Override
+    public String toString() {
+        return bombs + ", " + explosions;
+    }
+}
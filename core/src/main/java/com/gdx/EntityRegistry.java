@@ -0,0 +1,42 @@
+package com.gdx;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Typed index of everything alive in a World. The player, NPC and boss are single fields (O(1)),
+ * enemies live in Combatants, bombs and explosions are typed arrays and projectiles are the
+ * ProjectileSystem, so AI and systems never search the scene graph by name.
+ * World is the only writer: it registers the singletons once and adds/removes pooled entities;
+ * everyone else treats the arrays as read-only views.
+ */
+public class EntityRegistry {
+    private Player player;
+    private NPC npc;
+    private Boss boss;
+
+    final Array<Bomb> bombs = new Array<>();
+    final Array<Explosion> explosions = new Array<>();
+    private final Combatants enemies;
+    private final ProjectileSystem projectiles;
+
+    EntityRegistry(Combatants enemies, ProjectileSystem projectiles) {
+        this.enemies = enemies;
+        this.projectiles = projectiles;
+    }
+
+    void register(Player player) { this.player = player; }
+    void register(NPC npc) { this.npc = npc; }
+    void register(Boss boss) { this.boss = boss; }
+
+    public Player getPlayer() { return player; }
+    public NPC getNpc() { return npc; }
+    public Boss getBoss() { return boss; }
+
+    /** Live enemies (components per index); only systems and World write to them. */
+    public Combatants getEnemies() { return enemies; }
+    /** Boss bombs still in flight or exploding; read-only. */
+    public Array<Bomb> getBombs() { return bombs; }
+    /** Active explosions; read-only. */
+    public Array<Explosion> getExplosions() { return explosions; }
+    public ProjectileSystem getProjectiles() { return projectiles; }
+}
@@ -0,0 +1,36 @@
+package com.gdx;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * Animation pair for sprites that can face left or right.
+ * The left-facing frames come from GameAtlas.mirror, so picking a frame never allocates or flips.
+ */
+public class FacingAnimation {
+    private final Animation<TextureRegion> right;
+    private final Animation<TextureRegion> left;
+
+    public FacingAnimation(float frameDuration, TextureRegion[] rightFrames, TextureRegion[] leftFrames, Animation.PlayMode playMode) {
+        right = new Animation<>(frameDuration, rightFrames);
+        left = new Animation<>(frameDuration, leftFrames);
+        right.setPlayMode(playMode);
+        left.setPlayMode(playMode);
+    }
+
+    public TextureRegion getKeyFrame(float stateTime, boolean looping, boolean facingRight) {
+        return facingRight ? right.getKeyFrame(stateTime, looping) : left.getKeyFrame(stateTime, looping);
+    }
+
+    public TextureRegion getKeyFrame(float stateTime, boolean facingRight) {
+        return facingRight ? right.getKeyFrame(stateTime) : left.getKeyFrame(stateTime);
+    }
+
+    public boolean isAnimationFinished(float stateTime) {
+        return right.isAnimationFinished(stateTime);
+    }
+
+    public float getAnimationDuration() {
+        return right.getAnimationDuration();
+    }
+}
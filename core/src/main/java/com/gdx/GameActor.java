@@ -0,0 +1,56 @@
+package com.gdx;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+
+import java.util.Random;
+
+/**
+ * Actor that is moved by the fixed-step simulation and drawn between its last two positions.
+ * World calls savePreviousPosition() before every step and GameScreen sets renderAlpha before drawing.
+ */
+public abstract class GameActor extends Actor {
+    // 0 = posisi step sebelumnya, 1 = posisi step terakhir
+    static float renderAlpha = 1f;
+
+    private float prevX, prevY;
+
+    // simulasi pemilik actor ini beserta registry-nya; null sebelum setWorld
+    protected World world;
+    protected EntityRegistry entities;
+
+    /**
+     * Juga dipanggil setelah actor dipindah paksa (mis. diambil dari pool) supaya tidak "meluncur" dari posisi lama.
+     */
+    public void savePreviousPosition() {
+        prevX = getX();
+        prevY = getY();
+    }
+
+    public float drawX() {
+        return prevX + (getX() - prevX) * renderAlpha;
+    }
+
+    public float drawY() {
+        return prevY + (getY() - prevY) * renderAlpha;
+    }
+
+    public void setWorld(World world) {
+        this.world = world;
+        this.entities = world != null ? world.getEntities() : null;
+    }
+
+    /** The player of this actor's world, or null outside a world. O(1), no scene graph lookup. */
+    protected Player player() {
+        return entities != null ? entities.getPlayer() : null;
+    }
+
+    /** The RNG of this actor's world, so a seeded world replays the same run; MathUtils.random outside a world. */
+    protected Random random() {
+        return world != null ? world.getRandom() : MathUtils.random;
+    }
+
+    protected void emit(World.Event event) {
+        if (world != null) world.emit(event, getX() + getWidth() / 2f, getY() + getHeight() / 2f);
+    }
+}
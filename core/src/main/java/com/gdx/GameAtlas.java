@@ -0,0 +1,118 @@
+package com.gdx;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Shared TextureAtlas for every gameplay sprite, produced by the :core:packTextures task.
+ * Keeping everything on one page lets the whole world go through the SpriteBatch without texture switches.
+ * The TextureAtlas itself belongs to the AssetManager (Assets.ATLAS), so this class never disposes it.
+ */
+public class GameAtlas {
+    public static final String PATH = "atlas/game.atlas";
+
+    // "player" region is cut from sprite.png at build time; must match the spec in core/build.gradle
+    public static final int PLAYER_CELL_SIZE = 1920;
+    public static final int PLAYER_CROP_X = 750;
+    public static final int PLAYER_CROP_Y = 410;
+    public static final int PLAYER_CROP_W = 585;
+    public static final int PLAYER_CROP_H = 920;
+    public static final float PLAYER_PACK_SCALE = 0.25f;
+    public static final int PLAYER_COLS = 7;
+    public static final int PLAYER_ROWS = 2;
+
+    // null untuk atlas headless
+    private final TextureAtlas atlas;
+    // frame asli (menghadap kanan) -> salinan yang sudah di-flip, dibuat sekali saat load
+    private final ObjectMap<TextureRegion, TextureRegion> mirrored = new ObjectMap<>();
+    private TextureRegion[][] playerFrames;
+
+    public GameAtlas(TextureAtlas atlas) {
+        this.atlas = atlas;
+    }
+
+    /**
+     * Atlas without any texture, for running World without a GL context (server, tests, benchmarks).
+     * Every region is an empty placeholder, so entities can be built but not drawn.
+     */
+    public static GameAtlas headless() {
+        return new GameAtlas(null);
+    }
+
+    public boolean isHeadless() { return atlas == null; }
+
+    public TextureRegion region(String name) {
+        if (atlas == null) return new TextureRegion();
+        TextureRegion r = atlas.findRegion(name);
+        if (r == null) throw new GdxRuntimeException("Region '" + name + "' tidak ada di " + PATH + ", jalankan :core:packTextures");
+        return r;
+    }
+
+    /** 1x1 white region, tinted through Batch.setColor for health bars and other plain rectangles. */
+    public TextureRegion white() {
+        return region("white");
+    }
+
+    /**
+     * Splits a horizontal sprite strip into frameCount frames of equal width.
+     */
+    public TextureRegion[] strip(String name, int frameCount) {
+        if (atlas == null) return placeholders(frameCount);
+        TextureRegion sheet = region(name);
+        TextureRegion[][] tmp = sheet.split(sheet.getRegionWidth() / frameCount, sheet.getRegionHeight());
+        TextureRegion[] frames = new TextureRegion[frameCount];
+        for (int i = 0; i < frameCount; i++) frames[i] = tmp[0][i];
+        return frames;
+    }
+
+    /**
+     * Splits the packed player sheet into its 2 x 7 grid of cropped character frames.
+     */
+    public TextureRegion[][] playerFrames() {
+        // dipakai bersama Player dan NPC, jadi cukup dipotong sekali
+        if (playerFrames == null && atlas == null) {
+            playerFrames = new TextureRegion[PLAYER_ROWS][];
+            for (int row = 0; row < PLAYER_ROWS; row++) playerFrames[row] = placeholders(PLAYER_COLS);
+        } else if (playerFrames == null) {
+            TextureRegion sheet = region("player");
+            playerFrames = sheet.split(sheet.getRegionWidth() / PLAYER_COLS, sheet.getRegionHeight() / PLAYER_ROWS);
+        }
+        return playerFrames;
+    }
+
+    /**
+     * Returns the left-facing copy of a frame, building it the first time it is asked for.
+     */
+    public TextureRegion mirror(TextureRegion frame) {
+        // placeholder headless tidak punya texture untuk di-flip
+        if (atlas == null) return frame;
+        TextureRegion m = mirrored.get(frame);
+        if (m == null) {
+            m = new TextureRegion(frame);
+            m.flip(true, false);
+            mirrored.put(frame, m);
+        }
+        return m;
+    }
+
+    public TextureRegion[] mirror(TextureRegion[] frames) {
+        TextureRegion[] out = new TextureRegion[frames.length];
+        for (int i = 0; i < frames.length; i++) out[i] = mirror(frames[i]);
+        return out;
+    }
+
+    public FacingAnimation animation(float frameDuration, TextureRegion[] frames, Animation.PlayMode playMode) {
+        return new FacingAnimation(frameDuration, frames, mirror(frames), playMode);
+    }
+
+    public TextureAtlas getAtlas() { return atlas; }
+
+    private static TextureRegion[] placeholders(int count) {
+        TextureRegion[] frames = new TextureRegion[count];
+        for (int i = 0; i < count; i++) frames[i] = new TextureRegion();
+        return frames;
+    }
+}
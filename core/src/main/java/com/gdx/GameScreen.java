@@ -1,21 +1,19 @@
 package com.gdx;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
-import com.badlogic.gdx.InputMultiplexer;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
 import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ScreenUtils;
@@ -23,80 +21,64 @@ import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.viewport.ExtendViewport;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 
-import java.util.Random;
-
 public class GameScreen implements Screen {
     private final Main game;
 
     // ---------- constants ----------
-    private static final int WORLD_WIDTH = 5000;
-    private static final int WORLD_HEIGHT = 2000;
     private static final int V_WIDTH = 800;
     private static final int V_HEIGHT = 640;
 
-    // Wave and kill tracking
-    private int killCount = 0;
-    private static final int KILL_TARGET = 20;
-    private static final int WIN_TARGET = 21; // Target untuk menang
-    private static final int WAVE_SIZE = 4;
-
     // Core rendering utilities
-    private Stage gameStage;
+    private ExtendViewport worldViewport;
+    private SpriteBatch batch;
     private Stage uiStage;
-    private ShapeRenderer shapeR;
+    // hitbox kuning hanya untuk debug, toggle F3
+    private final DebugOverlay debugOverlay = new DebugOverlay();
+    // frame time, GLProfiler, jumlah entity, heap/alokasi dan waktu per fase, toggle F2
+    private PerfOverlay perfOverlay;
+    private long hudNanos;
     private BitmapFont font;
+    // font 2x untuk angka cooldown heal; di-bake (Assets.BIG_FONT), milik AssetManager
+    private BitmapFont bigFont;
+    // teks HUD hanya di-layout ulang kalau nilainya berubah
+    private HudLabel killsLabel, dashLabel, healLabel, dialogLabel;
+    private final ViewBounds view = new ViewBounds();
 
     // Assets loaded once for reuse
-    private Texture background;
-    private Texture enemyTexture;
-    private Texture playerSheet;
-    private Texture npcSheet;
-    private Texture bulletTexture;
-    private TextureRegion bulletRegion;
-    private Texture shieldTexture;
-    private TextureRegion shieldRegion;
+    private GameAtlas atlas;
+    private BackgroundRenderer background;
 
     // --- SOUND VARIABLES ---
-    Sound s_shot, s_hit, s_dash;
-    Sound s_heal;
-    Sound s_die;
+    // semua SFX lewat SoundManager: batas voice, prioritas, merge dan jarak dari kamera
+    private final SoundManager sounds = new SoundManager();
+    private SoundManager.Voice v_shot, v_bossShot, v_hit, v_dash, v_heal, v_die;
 
-    // --- MUSIC VARIABLES ---
-    Music bossMusic;
+    // Musik diputar lewat game.getMusic() (MusicManager milik Main)
+    private MusicManager music;
 
-    private Texture healTexture;
+    private TextureRegion healRegion;
+    private TextureRegion whiteRegion;
     private Texture gameOverTexture;
 
-    // Game objects collections
-    private Player player;
-    private NPC npc;
-    private Array<Enemy> enemies = new Array<>();
-    private Array<Bullet> bullets = new Array<>();
-    private Array<Bullet> bossBullets = new Array<>();
-    private Boss boss;
-    private Array<Bomb> bossBombs = new Array<>();
-    private Array<Explosion> explosions = new Array<>();
-
-    // Enemy
-    private Texture enemyIdle, enemyWalk, enemyRun, enemyShoot, enemyDie;
-    private TextureRegion[] idleFrames, walkFrames, runFrames, shootFrames, dieFrames;
-
-    // State and utilities
-    private enum GameState {
-        EXPLORE,
-        DIALOG,
-        GAMEOVER,
-        VICTORY
-    }
-    private GameState currentState = GameState.DIALOG;
-    private String[] dialogList = {
-        "Para penjajah berusaha merebut tanah kita.",
-        "Jaga tanah ini dengan sepenuh hatimu!",
-        "Jangan pernah gentar meskipun nyawa taruhannya!"
-    };
-    private int dialogIndex = 0;
-    private float stateTime = 0f;
-    private Random rand = new Random();
+    // Draw-call reporting (rata-rata per frame, dicetak tiap PROFILER_LOG_INTERVAL ms, hanya dengan Main.PERF_DEBUG)
+    private static final long PROFILER_LOG_INTERVAL = 5000;
+    private GLProfiler profiler;
+    private int profiledFrames;
+    private int profiledDrawCalls;
+    private int profiledTextureBinds;
+    private long lastProfilerLog;
+
+    // Urutan layer gambar per frame (background, world, efek, UI world, UI layar)
+    private RenderPipeline pipeline;
+
+    // Seluruh gameplay; screen ini hanya menggambar dan memutar suara
+    private World world;
+
+    // Fixed-step simulation
+    private static final float MAX_FRAME_TIME = 0.25f;
+    private static final int MAX_STEPS_PER_FRAME = 8;
+    private float accumulator = 0f;
+    private final PlayerInput input = new PlayerInput();
 
     public GameScreen(Main game) {
         this.game = game;
@@ -104,406 +86,359 @@ public class GameScreen implements Screen {
     }
 
     private void preloadAsset() {
-        shapeR = new ShapeRenderer();
         font = new BitmapFont();
-
-        // Load Sound (SFX)
-        s_shot = Gdx.audio.newSound(Gdx.files.internal("sound/shot.mp3"));
-        s_hit = Gdx.audio.newSound(Gdx.files.internal("sound/hit.mp3"));
-        s_dash = Gdx.audio.newSound(Gdx.files.internal("sound/dash.mp3"));
-        s_heal = Gdx.audio.newSound(Gdx.files.internal("sound/heal.ogg"));
-        s_die = Gdx.audio.newSound(Gdx.files.internal("sound/mati.ogg"));
-
-        // Load Music (Boss)
-        bossMusic = Gdx.audio.newMusic(Gdx.files.internal("sound/boss.ogg"));
-        bossMusic.setLooping(true);
-
-        // Load textures once
-        background = new Texture("bg.png");
-        enemyTexture = new Texture("enemy.png");
-        playerSheet = new Texture("sprite.png");
-        npcSheet = new Texture("sprite.png");
-        bulletTexture = new Texture("bullet.png");
-        bulletRegion = new TextureRegion(bulletTexture);
-        shieldTexture = new Texture("shield.png");
-        shieldRegion = new TextureRegion(shieldTexture);
-        healTexture = new Texture("heal.png");
-        gameOverTexture = new Texture("gameover.png");
-
-        enemyIdle  = new Texture("shooter/Soldier_1/Idle.png");
-        enemyWalk  = new Texture("shooter/Soldier_1/Walk.png");
-        enemyRun   = new Texture("shooter/Soldier_1/Run.png");
-        enemyShoot = new Texture("shooter/Soldier_1/Shot_1.png");
-        enemyDie   = new Texture("shooter/Soldier_1/Dead.png");
-
-        boss = new Boss(
-            5100, 0,
-            new Texture("Standing.png"),
-            new Texture("Run.png"),
-            new Texture("Roll.png"),
-            new Texture("bullet.png"),
-            4.25f, s_shot
-        );
+        bigFont = game.getAssets().get(Assets.BIG_FONT);
+        killsLabel = new HudLabel(font);
+        dashLabel = new HudLabel(font);
+        healLabel = new HudLabel(bigFont, Color.YELLOW);
+        dialogLabel = new HudLabel(font);
+        perfOverlay = new PerfOverlay(font);
+
+        // Semua asset sudah dimuat LoadingScreen (Assets.GAME), di sini tinggal diambil
+        AssetManager assets = game.getAssets();
+
+        // Sound (SFX): limit per sound, prioritas (besar menang), volume, durasi (detik)
+        Sound shot = assets.get(Assets.SHOT);
+        v_shot = sounds.register(shot, 4, 0, 1f, 1.3f);
+        v_bossShot = sounds.register(shot, 2, 1, 0.9f, 1.3f);
+        v_hit = sounds.register(assets.get(Assets.HIT), 3, 2, 1f, 0.8f);
+        v_dash = sounds.register(assets.get(Assets.DASH), 1, 2, 1f, 0.9f);
+        v_heal = sounds.register(assets.get(Assets.HEAL), 1, 2, 1f, 0.6f);
+        v_die = sounds.register(assets.get(Assets.DIE), 1, 3, 1f, 2f);
+
+        // Music (Boss): decoder dibuka di background sekarang, diputar saat boss muncul
+        music = game.getMusic();
+        music.preload(Assets.BOSS_MUSIC);
+
+        // Semua sprite gameplay dari satu atlas (lihat :core:packTextures)
+        atlas = new GameAtlas(assets.get(Assets.ATLAS));
+        // bg.png diulang sepanjang level; layer parallax lain cukup ditambah di sini
+        background = new BackgroundRenderer().addLayer(atlas.region("bg"), 1f);
+        healRegion = atlas.region("heal");
+        whiteRegion = atlas.white();
+        gameOverTexture = assets.get(Assets.GAME_OVER);
     }
 
     @Override
     public void show() {
-        // Camera & viewport
-        gameStage = new Stage(new ExtendViewport(V_WIDTH, V_HEIGHT, new OrthographicCamera()));
-        uiStage = new Stage(new ScreenViewport());
-        InputMultiplexer im = new InputMultiplexer(uiStage, gameStage);
-        Gdx.input.setInputProcessor(im);
-
-        // Create main actor and NPC
-        player = new Player(100, 0, playerSheet, playerSheet, s_hit, s_dash, s_heal, shieldRegion);
-        player.setName("player");
-        gameStage.addActor(player);
-
-        npc = new NPC(-200, -150, npcSheet);
-        npc.setName("npc");
-        npc.startEnter();
-        gameStage.addActor(npc);
-
-        boss.setBulletsArray(bossBullets);
-        boss.setBombsArray(bossBombs);
-        boss.setName("boss");
-        gameStage.addActor(boss);
-
-        // Spawn first wave
-        idleFrames  = new TextureRegion[7];
-        walkFrames  = new TextureRegion[8];
-        runFrames   = new TextureRegion[8];
-        shootFrames = new TextureRegion[4];
-        dieFrames   = new TextureRegion[5];
-
-        for (int i = 0; i < 7; i++) idleFrames[i]  = new TextureRegion(enemyIdle,  i * 128, 0, 128, 128);
-        for (int i = 0; i < 8; i++) walkFrames[i]  = new TextureRegion(enemyWalk,  i * 128, 0, 128, 128);
-        for (int i = 0; i < 8; i++) runFrames[i]   = new TextureRegion(enemyRun,   i * 128, 0, 128, 128);
-        for (int i = 0; i < 4; i++) shootFrames[i] = new TextureRegion(enemyShoot, i * 128, 0, 128, 128);
-        for (int i = 0; i < 5; i++) dieFrames[i]   = new TextureRegion(enemyDie,   i * 128, 0, 128, 128);
-        spawnWave();
-
-        background.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.ClampToEdge);
+        // Camera & viewport; world dan HUD memakai batch yang sama
+        worldViewport = new ExtendViewport(V_WIDTH, V_HEIGHT, new OrthographicCamera());
+        batch = new SpriteBatch();
+        uiStage = new Stage(new ScreenViewport(), batch);
+        Gdx.input.setInputProcessor(uiStage);
+
+        world = new World(atlas);
+        world.setListener(this::onWorldEvent);
+        world.setView(view.rect);
+
+        // satu batch untuk semua layer; hanya di-flush saat pindah dari viewport world ke layar
+        pipeline = new RenderPipeline(batch, game.getProfiler())
+            .setViewport(RenderPipeline.Layer.BACKGROUND, worldViewport)
+            .add(RenderPipeline.Layer.BACKGROUND, this::drawBackground)
+            .add(RenderPipeline.Layer.WORLD, this::drawWorld)
+            .add(RenderPipeline.Layer.EFFECTS, this::drawEffects)
+            .add(RenderPipeline.Layer.WORLD_UI, this::drawHealthBars)
+            .setViewport(RenderPipeline.Layer.SCREEN_UI, uiStage.getViewport())
+            .add(RenderPipeline.Layer.SCREEN_UI, this::drawHud)
+            .add(RenderPipeline.Layer.SCREEN_UI, this::drawPerfOverlay);
+
+        profiler = game.getProfiler();
+        profiler.reset();
+        lastProfilerLog = TimeUtils.millis();
     }
 
-    private void spawnWave() {
-        for (Enemy e : enemies) e.remove();
-        enemies.clear();
-        for (int i = 0; i < WAVE_SIZE; i++) {
-            int x = (killCount == 0) ? rand.nextInt(1000, 2000) : rand.nextInt(200, 2000);
-            float scale = 2f;
-            Enemy e = new Enemy(x, 0, idleFrames, walkFrames, runFrames, shootFrames, dieFrames, scale);
-            gameStage.addActor(e);
-            enemies.add(e);
+    private void onWorldEvent(World.Event event, float x, float y) {
+        switch (event) {
+            case PLAYER_ATTACK:
+            case BOMB_EXPLODED:
+                sounds.play(v_hit, x, y);
+                break;
+            case PLAYER_DASH:
+                sounds.play(v_dash, x, y);
+                break;
+            case PLAYER_HEAL:
+                sounds.play(v_heal, x, y);
+                break;
+            case ENEMY_SHOT:
+                sounds.play(v_shot, x, y);
+                break;
+            case BOSS_SHOT:
+                sounds.play(v_bossShot, x, y);
+                break;
+            case BOSS_APPEARED:
+                music.play(Assets.BOSS_MUSIC, true, 1f, MusicManager.DEFAULT_FADE);
+                music.preload(Assets.WIN_MUSIC);
+                break;
+            case PLAYER_DIED:
+                sounds.play(v_die, x, y);
+                music.stop(MusicManager.DEFAULT_FADE);
+                break;
+            case VICTORY:
+                // musik boss di-crossfade ke musik menang oleh EndScreen
+                break;
         }
     }
 
+    /**
+     * Sets how many simulation steps run per second. Rendering still happens once per frame
+     * and interpolates between the last two steps.
+     */
+    public void setTickRate(float ticksPerSecond) {
+        world.setTickRate(ticksPerSecond);
+    }
+
     @Override
-    public void render(float d) {
+    public void render(float delta) {
         ScreenUtils.clear(0, 0, 0, 1);
-        float delta = Gdx.graphics.getDeltaTime();
-        stateTime += delta;
-
-        // --- CEK GAME OVER ---
-        if (player.health <= 0 && currentState != GameState.GAMEOVER) {
-            currentState = GameState.GAMEOVER;
-            s_die.play();
-            if (bossMusic.isPlaying()) bossMusic.stop();
+        input.poll();
+        debugOverlay.pollToggle();
+        perfOverlay.pollToggle();
+        perfOverlay.frame(delta);
+        syncProfiler();
+        long updateStart = TimeUtils.nanoTime();
+
+        // listener = tengah kamera frame sebelumnya; kamera baru digeser di draw()
+        Camera cam = worldViewport.getCamera();
+        sounds.setListener(cam.position.x, cam.position.y);
+        sounds.update(delta);
+
+        // Fixed-step simulation: frame delta hanya mengisi accumulator
+        float stepTime = world.getStepTime();
+        accumulator += Math.min(delta, MAX_FRAME_TIME);
+        int steps = 0;
+        JfrEvents.Update update = new JfrEvents.Update();
+        update.begin();
+        while (accumulator >= stepTime && steps < MAX_STEPS_PER_FRAME) {
+            world.tick(input);
+            boolean screenChanged = handleWorldState();
+            input.consumePressed();
+            if (screenChanged) return;
+            accumulator -= stepTime;
+            steps++;
+        }
+        // mesin terlalu lambat: buang sisa step daripada terus tertinggal
+        if (accumulator >= stepTime) accumulator %= stepTime;
+        update.end();
+        if (update.shouldCommit()) {
+            update.steps = steps;
+            update.enemies = world.getEnemies().size();
+            update.projectiles = world.getProjectiles().size();
+            update.commit();
         }
 
-        // --- UPDATE LOGIC (Hanya jalan jika TIDAK gameover) ---
-        if (currentState != GameState.GAMEOVER) {
-
-            // Update phase
-            if (currentState == GameState.DIALOG) {
-                player.updateDialog(delta);
-            }
-            gameStage.act(delta);
-            uiStage.act(delta);
-
-            // Enemies shoot
-            for (Enemy e : enemies) {
-                if (e.shouldFire()) {
-                    shootFromEnemy(e);
-                    e.lastShootTime = TimeUtils.nanoTime();
-                }
-            }
-
-            // Dialog progression
-            if (currentState == GameState.DIALOG) {
-                if (Gdx.input.isButtonJustPressed(Input.Buttons.LEFT)) {
-                    dialogIndex++;
-                    if (dialogIndex >= dialogList.length) {
-                        npc.startLeave();
-                        currentState = GameState.EXPLORE;
-                    }
-                }
-            }
-
-            // Player attack detection
-            if (player.isAttack) {
-                Rectangle atk = player.getAttackHitbox();
-                if (atk != null && !player.hitRegistered) {
-                    for (Enemy e : enemies) {
-                        if (!e.dead && atk.overlaps(e.getHitbox())) {
-                            e.takeDamage(100);
-                            player.hitRegistered = true;
-                            break;
-                        }
-                    }
-                }
-            }
-
-            if (player.isAttack && boss.active) {
-                Rectangle atk = player.getAttackHitbox();
-                if (atk != null && atk.overlaps(boss.hitbox) && !player.hitRegistered) {
-                    boss.takeDamage(30);
-                    player.hitRegistered = true;
-                }
-            }
-
-
-            // Process dead enemies
-            for (int i = enemies.size - 1; i >= 0; i--) {
-                Enemy en = enemies.get(i);
-                if (en.isDead()) {
-                    if (!en.hasCountedKill()) {
-                        en.setCountedKill(true);
-                        killCount++;
-
-                        // --- LOGIKA MUNCUL BOSS & MUSIK ---
-                        if (killCount >= KILL_TARGET && !boss.active) {
-                            boss.setActive(true);
-                            boss.state = Boss.State.RUN;
-                            bossMusic.play();
-                        }
-
-                    }
-                    en.remove();
-                    enemies.removeIndex(i);
-                }
-            }
-
-            // --- LOGIKA BOSS MATI & END SCREEN ---
-            if (boss.active && boss.hp <= 0) {
-                boss.remove();
-                boss.active = false;
-
-                // Ubah kill count jadi 21 sesuai request
-                killCount = WIN_TARGET;
-                currentState = GameState.VICTORY;
-
-                // Matikan musik boss
-                if (bossMusic.isPlaying()) bossMusic.stop();
+        GameActor.renderAlpha = accumulator / stepTime;
+        JfrEvents.act(uiStage, "GameScreen", delta);
+        long renderStart = TimeUtils.nanoTime();
+        JfrEvents.Render render = new JfrEvents.Render();
+        render.begin();
+        draw();
+        render.end();
+        if (render.shouldCommit()) {
+            render.drawCalls = pipeline.getFrameDrawCalls();
+            render.enemies = world.getEnemies().size();
+            render.commit();
+        }
+        perfOverlay.setPhases(renderStart - updateStart, TimeUtils.nanoTime() - renderStart, hudNanos);
+        reportProfiler();
+    }
 
+    /**
+     * Pindah screen kalau world sudah selesai. Mengembalikan true kalau screen sudah diganti (menang / restart).
+     */
+    private boolean handleWorldState() {
+        switch (world.getState()) {
+            case VICTORY:
                 // Pindah ke EndScreen
-                game.setScreen(new EndScreen(game));
+                game.setScreen(new LoadingScreen(game, Assets.END, Assets.GAME, () -> new EndScreen(game)));
                 dispose(); // Bersihkan GameScreen
-                return;    // Hentikan render frame ini
-            }
-
-            // Spawn next wave
-            if (enemies.size == 0 && killCount < KILL_TARGET && currentState == GameState.EXPLORE) {
-                spawnWave();
-            }
-
-            // Bullets update
-            for (int i = bullets.size - 1; i >= 0; i--) {
-                Bullet b = bullets.get(i);
-                b.rect.x += b.velX * delta;
-                b.rect.y += b.velY * delta;
-
-                if (b.rect.overlaps(player.hitbox)) {
-                    if (player.isShielding) {
-                        bullets.removeIndex(i);
-                        continue;
-                    }
-
-                    if (player.health > 0) player.health -= 10;
-                    bullets.removeIndex(i);
-                    continue;
+                return true;
+            case GAMEOVER:
+                // --- INPUT LOGIC GAMEOVER ---
+                if (input.touchPressed) {
+                    // asset game masih dimuat, jadi LoadingScreen langsung selesai
+                    game.setScreen(new LoadingScreen(game, Assets.GAME, Assets.GAME, () -> new GameScreen(game)));
+                    dispose();
+                    return true;
                 }
+                return false;
+            default:
+                return false;
+        }
+    }
 
-                if (b.rect.x < 0 || b.rect.x > WORLD_WIDTH || b.rect.y < 0 || b.rect.y > WORLD_HEIGHT) {
-                    bullets.removeIndex(i);
-                }
-            }
-            // ==== BOMB UPDATE ====
-            for (int i = bossBombs.size - 1; i >= 0; i--) {
-                Bomb b = bossBombs.get(i);
-                b.update(delta);
-
-                if (b.rect.overlaps(player.hitbox) && player.isShielding) {
-                    explosions.add(new Explosion(b.rect.x + 25, b.rect.y + 25, boss.getExplosionAnim()));
-                    bossBombs.removeIndex(i);
-                    continue;
-                }
-                if (b.rect.overlaps(player.hitbox) && !player.isShielding) {
-                    player.health -= 20;
-                    if (player.health < 0) player.health = 0;
-                }
-                if (b.exploded) {
-                    explosions.add(new Explosion(b.rect.x + 25, b.rect.y + 25, boss.getExplosionAnim()));
-                    s_hit.play();
-                    bossBombs.removeIndex(i);
-                }
-            }
-            // == EXPLOSION ==
-            for (int i = explosions.size - 1; i >= 0; i--) {
-                Explosion ex = explosions.get(i);
-                ex.update(delta);
-
-                if (ex.life <= 0) {
-                    explosions.removeIndex(i);
-                    continue;
-                }
-                float dx = (player.hitbox.x + player.hitbox.width/2) - ex.x;
-                float dy = (player.hitbox.y + player.hitbox.height/2) - ex.y;
-                float dist = (float)Math.sqrt(dx*dx + dy*dy);
-
-                if (!ex.hasDamaged && dist <= ex.radius) {
-                    if (!player.isShielding && player.health > 0) {
-                        player.health -= 40;
-                    }
-                    ex.hasDamaged = true;
-                }
-                if (ex.life <= 0) explosions.removeIndex(i);
-            }
-        } // End of if(!GAMEOVER)
-
-        // Camera Update
-        Camera cam = gameStage.getCamera();
-        float halfW = ((ExtendViewport)gameStage.getViewport()).getWorldWidth() / 2f;
-        float px = player.getX() + player.getWidth() / 2f;
-        cam.position.x = MathUtils.clamp(px, halfW, WORLD_WIDTH - halfW);
+    private void draw() {
+        Player player = world.getPlayer();
+
+        // Camera Update (ikut posisi player yang diinterpolasi)
+        Camera cam = worldViewport.getCamera();
+        float halfW = worldViewport.getWorldWidth() / 2f;
+        float px = player.drawX() + player.getWidth() / 2f;
+        cam.position.x = MathUtils.clamp(px, halfW, World.WIDTH - halfW);
         cam.update();
+        // semua pass world di bawah melewati entity di luar layar
+        view.update(cam);
 
         // ---------- Rendering ----------
-        SpriteBatch batch = (SpriteBatch)gameStage.getBatch();
-        batch.setProjectionMatrix(cam.combined);
-        batch.begin();
-        batch.draw(background, 0, 0);
-        batch.draw(background, background.getWidth(), 0);
-        batch.draw(background, 2 * background.getWidth(), 0);
-        batch.end();
-
-        // draw stages
-        gameStage.draw();
-
-        // boss batch
-        batch.begin();
-        for (Bomb b : bossBombs) {
-            if (!b.exploded) batch.draw(b.sprite, b.rect.x, b.rect.y, 50, 50);
+        pipeline.render();
+
+        // hitbox debug (F3), mati secara default
+        if (world.getState() != World.State.GAMEOVER) {
+            worldViewport.apply();
+            debugOverlay.draw(cam, world, view);
         }
-        for (int i = explosions.size - 1; i >= 0; i--) {
-            Explosion ex = explosions.get(i);
-            ex.update(delta);
-            if (ex.life <= 0) {
-                explosions.removeIndex(i);
-                continue;
-            }
+    }
+
+    private void drawBackground(Batch batch) {
+        background.draw(batch, worldViewport.getCamera());
+    }
+
+    private void drawWorld(Batch batch) {
+        // urutan sama seperti dulu di stage: player, npc, boss, musuh, peluru
+        world.getPlayer().draw(batch, 1f);
+        if (view.visible(world.getNpc())) world.getNpc().draw(batch, 1f);
+        Boss boss = world.getBoss();
+        if (boss.active && view.visible(boss)) boss.draw(batch, 1f);
+        world.getEnemies().draw(batch, GameActor.renderAlpha, view);
+        world.getProjectiles().draw(batch, GameActor.renderAlpha, view.rect);
+    }
+
+    private void drawEffects(Batch batch) {
+        float alpha = GameActor.renderAlpha;
+        for (Bomb b : world.getBombs()) {
+            if (b.exploded) continue;
+            float bx = b.prevX + (b.rect.x - b.prevX) * alpha;
+            float by = b.prevY + (b.rect.y - b.prevY) * alpha;
+            if (view.visible(bx, by, 50, 50)) batch.draw(b.sprite, bx, by, 50, 50);
+        }
+        // explosion hanya di-update di step simulasi, di sini cukup digambar
+        for (Explosion ex : world.getExplosions()) {
+            if (!view.visible(ex.x - 64, ex.y - 64, 128, 128)) continue;
             TextureRegion frame = ex.getFrame();
             batch.draw(frame, ex.x - 64, ex.y - 64, 128, 128);
         }
-        batch.end();
-
-        // --- HUD SECTION ---
-        SpriteBatch uiBatch = (SpriteBatch)uiStage.getBatch();
-        uiBatch.setProjectionMatrix(uiStage.getCamera().combined);
+    }
 
-        uiBatch.begin();
+    private void drawHud(Batch batch) {
+        long hudStart = TimeUtils.nanoTime();
+        Player player = world.getPlayer();
+        World.State currentState = world.getState();
         float worldWidth = uiStage.getViewport().getWorldWidth();
         float worldHeight = uiStage.getViewport().getWorldHeight();
 
-        font.setColor(Color.WHITE);
-        font.draw(uiStage.getBatch(), "Kills: " + killCount + " / " + KILL_TARGET, 20, worldHeight - 20);
-        font.draw(uiStage.getBatch(), player.getDashStatusString(), 20, worldHeight - 40);
+        int kills = world.getKillCount();
+        if (killsLabel.changed(kills)) killsLabel.text().append("Kills: ").append(kills).append(" / ").append(World.KILL_TARGET);
+        killsLabel.draw(batch, 20, worldHeight - 20);
+
+        int dashTenths = player.getDashCooldownTenths();
+        if (dashLabel.changed(dashTenths)) {
+            if (dashTenths == 0) dashLabel.text().append("DASH: READY");
+            else dashLabel.text().append("DASH: cooldown ").append(dashTenths / 10).append('.').append(dashTenths % 10).append('s');
+        }
+        dashLabel.draw(batch, 20, worldHeight - 40);
 
         // --- HEAL UI LOGIC ---
         float healIconX = 150;
         float healIconY = worldHeight - 90;
         float healIconSize = 90;
 
-        uiStage.getBatch().draw(healTexture, healIconX, healIconY, healIconSize, healIconSize);
+        batch.draw(healRegion, healIconX, healIconY, healIconSize, healIconSize);
 
         if (player.healTimer > 0) {
-            font.setColor(Color.YELLOW);
-            String cdText = String.format("%.0f", player.healTimer);
-            font.getData().setScale(2.0f);
-            font.draw(uiStage.getBatch(), cdText, healIconX + 35, healIconY + 10);
-            font.getData().setScale(1.0f);
+            int healSeconds = Math.round(player.healTimer);
+            if (healLabel.changed(healSeconds)) healLabel.text().append(healSeconds);
+            healLabel.draw(batch, healIconX + 35, healIconY + 10);
         }
 
         // Dialog text
-        if (currentState == GameState.DIALOG) {
-            font.setColor(Color.WHITE);
-            font.draw(uiStage.getBatch(), dialogList[dialogIndex], 40, 80);
+        if (currentState == World.State.DIALOG) {
+            String line = world.getDialogLine();
+            if (dialogLabel.changed(line)) dialogLabel.text().append(line);
+            dialogLabel.draw(batch, 40, 80);
         }
 
         // --- GAMEOVER OVERLAY ---
-        if (currentState == GameState.GAMEOVER) {
-            uiBatch.draw(gameOverTexture, 0, 0, worldWidth, worldHeight);
+        if (currentState == World.State.GAMEOVER) {
+            batch.draw(gameOverTexture, 0, 0, worldWidth, worldHeight);
         }
+        hudNanos = TimeUtils.nanoTime() - hudStart;
+    }
 
-        uiBatch.end();
+    private void drawPerfOverlay(Batch batch) {
+        perfOverlay.draw(batch, world, 20, uiStage.getViewport().getWorldHeight() - 110);
+    }
 
-        // --- INPUT LOGIC GAMEOVER (Outside Batch) ---
-        if (currentState == GameState.GAMEOVER) {
-            if (Gdx.input.justTouched()) {
-                game.setScreen(new GameScreen(game));
-                dispose();
-            }
+    /**
+     * Health bar ikut batch world: region putih 1x1 yang diwarnai merah, jadi tidak perlu ShapeRenderer.
+     */
+    private void drawHealthBars(Batch batch) {
+        if (world.getState() == World.State.GAMEOVER) return;
+        Player player = world.getPlayer();
+        Boss boss = world.getBoss();
+        batch.setColor(Color.RED);
+        if (boss.active && view.visible(boss.getHitbox())) {
+            float pct = boss.hp / boss.maxHp;
+            batch.draw(whiteRegion, boss.getHitbox().x, boss.getHitbox().y + boss.getHitbox().height + 5, boss.getHitbox().width * pct, 12);
         }
-
-        // Draw health bars
-        if (currentState != GameState.GAMEOVER) {
-            shapeR.setProjectionMatrix(cam.combined);
-            shapeR.begin(ShapeRenderer.ShapeType.Filled);
-            if (boss.active) {
-                float pct = boss.hp / boss.maxHp;
-                shapeR.setColor(Color.RED);
-                shapeR.rect(boss.getHitbox().x, boss.getHitbox().y + boss.getHitbox().height + 5, boss.getHitbox().width * pct, 12);
-            }
-            for (Enemy e : enemies) {
-                float pct = (e.maxHp <= 0) ? 0f : (e.hp / e.maxHp);
-                shapeR.setColor(Color.RED);
-                shapeR.rect(e.getHitbox().x, e.getHitbox().y + e.getHitbox().height + 10, 100 * pct, 10);
-            }
-            shapeR.setColor(Color.RED);
-            shapeR.rect(player.getHitbox().x, player.getHitbox().y + player.getHitbox().height + 10, 100 * (player.health / player.MAX_HEALTH), 10);
-            shapeR.end();
-
-            shapeR.begin(ShapeRenderer.ShapeType.Line);
-            shapeR.setColor(Color.YELLOW);
-            shapeR.rect(player.getHitbox().x, player.getHitbox().y, player.getHitbox().width, player.getHitbox().height);
-            shapeR.rect(boss.getHitbox().x, boss.getHitbox().y, boss.getHitbox().width, boss.getHitbox().height);
-            for (Enemy e : enemies) shapeR.rect(e.getHitbox().x, e.getHitbox().y, e.getHitbox().width, e.getHitbox().height);
-            shapeR.end();
+        Combatants enemies = world.getEnemies();
+        for (int i = 0; i < enemies.size(); i++) {
+            float x = enemies.getHitX(i), y = enemies.getHitY(i), h = enemies.getHitHeight(i);
+            if (!view.visible(x, y, enemies.getHitWidth(i), h)) continue;
+            float pct = (enemies.getMaxHp(i) <= 0) ? 0f : (enemies.getHp(i) / enemies.getMaxHp(i));
+            batch.draw(whiteRegion, x, y + h + 10, 100 * pct, 10);
         }
+        batch.draw(whiteRegion, player.getHitbox().x, player.getHitbox().y + player.getHitbox().height + 10, 100 * (player.health / player.MAX_HEALTH), 10);
+        batch.setColor(Color.WHITE);
     }
 
-    void shootFromEnemy(Enemy e) {
-        float startX = e.getHitbox().x + e.getHitbox().width / 2;
-        if (e.facingRight) startX += 30; else startX -= 130;
-        float startY = e.getHitbox().y + e.getHitbox().height / 2 - 25;
-
-        float targetX = player.getHitbox().x + player.getHitbox().width / 2;
-        float bulletSpeed = 500f;
-        float velX = (targetX > startX) ? bulletSpeed : -bulletSpeed;
-        float velY = 0;
-
-        Bullet bullet = new Bullet(bulletRegion, startX, startY, 20, 20, velX, velY, player);
-        bullet.rotation = (velX < 0) ? 0 : 180;
-        bullets.add(bullet);
-        s_shot.play();
-        gameStage.addActor(bullet);
+    /** GLProfiler hanya aktif selama ada yang membaca angkanya: PerfOverlay, Main.PERF_DEBUG atau budget draw call. */
+    private void syncProfiler() {
+        boolean wanted = perfOverlay.enabled || Main.PERF_DEBUG || pipeline.hasDrawCallBudget();
+        if (wanted == profiler.isEnabled()) return;
+        if (wanted) {
+            profiler.enable();
+            profiler.reset();
+        } else {
+            profiler.disable();
+        }
+    }
 
-        e.lastShootTime = TimeUtils.nanoTime();
+    /**
+     * Mengumpulkan angka GLProfiler tiap frame; dengan Main.PERF_DEBUG rata-ratanya juga dicetak secara berkala.
+     */
+    private void reportProfiler() {
+        if (!profiler.isEnabled()) return;
+        perfOverlay.sampleProfiler(profiler);
+        if (!Main.PERF_DEBUG) {
+            profiler.reset();
+            return;
+        }
+        profiledFrames++;
+        profiledDrawCalls += profiler.getDrawCalls();
+        profiledTextureBinds += profiler.getTextureBindings();
+        profiler.reset();
+
+        if (TimeUtils.timeSinceMillis(lastProfilerLog) >= PROFILER_LOG_INTERVAL) {
+            Gdx.app.log("GLProfiler", "draw calls/frame: " + (float) profiledDrawCalls / profiledFrames
+                + ", texture binds/frame: " + (float) profiledTextureBinds / profiledFrames);
+            Gdx.app.log("RenderPipeline", "last frame: " + pipeline.report() + " (draw calls/flushes per layer)");
+            Gdx.app.log("Pools", world.getPools().toString());
+            Gdx.app.log("Sound", "voices " + sounds.getActiveVoices() + "/" + sounds.getMaxVoices()
+                + ", played " + sounds.played + ", culled " + sounds.culled + ", merged " + sounds.merged
+                + ", stolen " + sounds.stolen + ", dropped " + sounds.dropped);
+            sounds.resetStats();
+            TextureCache cache = game.getTextureCache();
+            Gdx.app.log("TextureCache", "VRAM ~" + cache.getResidentBytes() / (1024 * 1024) + " / "
+                + cache.getBudgetBytes() / (1024 * 1024) + " MB, parked: " + cache.getParkedCount());
+            profiledFrames = 0;
+            profiledDrawCalls = 0;
+            profiledTextureBinds = 0;
+            lastProfilerLog = TimeUtils.millis();
+        }
     }
 
     @Override
     public void resize(int width, int height) {
-        gameStage.getViewport().update(width, height, true);
+        worldViewport.update(width, height, true);
         uiStage.getViewport().update(width, height, true);
     }
 
@@ -513,25 +448,14 @@ public class GameScreen implements Screen {
 
     @Override
     public void dispose() {
-        shapeR.dispose();
+        // interceptor yang dinyalakan lewat F2 tidak ikut terbawa ke screen berikutnya
+        if (!Main.PERF_DEBUG) profiler.disable();
+        debugOverlay.dispose();
         font.dispose();
-        gameStage.dispose();
         uiStage.dispose();
-        background.dispose();
-        enemyTexture.dispose();
-        playerSheet.dispose();
-        npcSheet.dispose();
-        bulletTexture.dispose();
-        shieldTexture.dispose();
-        healTexture.dispose();
-        gameOverTexture.dispose();
-
-        s_shot.dispose();
-        s_hit.dispose();
-        s_dash.dispose();
-        s_heal.dispose();
-        s_die.dispose();
-
-        bossMusic.dispose();
+        batch.dispose();
+
+        // texture, suara & bigFont milik AssetManager, dilepas LoadingScreen berikutnya; musik milik MusicManager
+        sounds.stopAll();
     }
 }
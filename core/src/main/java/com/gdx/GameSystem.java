@@ -0,0 +1,9 @@
+package com.gdx;
+
+/**
+ * One piece of simulation logic that World runs every step, in the order the systems were added.
+ * New gameplay rules for the enemies go here instead of into GameScreen or an actor.
+ */
+public interface GameSystem {
+    void update(float delta);
+}
@@ -0,0 +1,89 @@
+package com.gdx;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.StringBuilder;
+
+/**
+ * One line of HUD text whose glyphs are laid out only when the value it shows changes.
+ * Typical use, with no allocation while the value stays the same:
+ *   if (kills.changed(count)) kills.text().append("Kills: ").append(count);
+ *   kills.draw(batch, x, y);
+ * text() hands out a reusable char buffer (libGDX StringBuilder appends ints without allocating);
+ * the laid-out vertices live in a BitmapFontCache and are only moved when x,y change.
+ */
+public class HudLabel {
+    private final BitmapFontCache cache;
+    private final StringBuilder text = new StringBuilder(48);
+    private final Color color = new Color(Color.WHITE);
+
+    private long key = Long.MIN_VALUE;
+    private Object keyRef;
+    private boolean dirty;
+    private float x, y;
+
+    public HudLabel(BitmapFont font) {
+        cache = new BitmapFontCache(font, font.usesIntegerPositions());
+    }
+
+    public HudLabel(BitmapFont font, Color color) {
+        this(font);
+        this.color.set(color);
+    }
+
+    /** True (and the label is marked for re-layout) when value differs from the one shown. */
+    public boolean changed(long value) {
+        if (value == key && !dirty) return false;
+        key = value;
+        dirty = true;
+        return true;
+    }
+
+    /** Same as changed(long) for text that is swapped by reference, e.g. a dialog line. */
+    public boolean changed(Object ref) {
+        if (ref == keyRef && !dirty) return false;
+        keyRef = ref;
+        dirty = true;
+        return true;
+    }
+
+    /** Cleared buffer for the new text; only call after changed() returned true. */
+    public StringBuilder text() {
+        text.setLength(0);
+        return text;
+    }
+
+    public void draw(Batch batch, float x, float y) {
+        layout(x, y);
+        cache.draw(batch);
+    }
+
+    /** Draws with the label's alpha multiplied by alpha, e.g. for blinking text. */
+    public void draw(Batch batch, float x, float y, float alpha) {
+        layout(x, y);
+        cache.draw(batch, alpha);
+    }
+
+    private void layout(float x, float y) {
+        if (dirty) {
+            cache.setColor(color);
+            cache.setText(text, x, y, 0, Align.left, false);
+            this.x = x;
+            this.y = y;
+            dirty = false;
+        } else if (x != this.x || y != this.y) {
+            cache.translate(x - this.x, y - this.y);
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    /** Width of the current text, e.g. for centering. */
+    public float getWidth() {
+        if (dirty) layout(x, y);
+        return cache.getLayouts().size > 0 ? cache.getLayouts().first().width : 0f;
+    }
+}
@@ -2,71 +2,59 @@ package com.gdx;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
-import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 
 public class IntroScreen implements Screen {
     private final Main game;
+    private final AssetManager assets;
     private Stage stage;
     private SpriteBatch batch; // Batch untuk menggambar teks manual
 
     // --- Audio ---
-    private Music introMusic;
 
     // --- Assets untuk Start Screen ---
     private Texture startBgTexture;
     private Image startImageActor;
     private BitmapFont font;
+    private HudLabel tapLabel;
     private boolean isStartScreen = true; // Penanda apakah masih di halaman "Tap to Start"
     private float blinkTimer = 0f;        // Timer untuk efek kedip teks
 
     // --- Assets untuk Intro Cerita ---
-    // Pastikan nama file ini sesuai dengan yang ada di folder assets
-    private final String[] introImages = {
-        "PerjuanganKemerdekaan.png",
-        "LoadScreen1.png",
-        "LoadScreen2.png",
-        "LoadScreen3.png",
-        "LoadScreen4.png",
-        "Hero_Intro1.png"
-    };
-
-    private Array<Texture> textures = new Array<>();
+    // gambar (Assets.INTRO_SLIDES) di-stream Slideshow: slide berikutnya disiapkan selama slide ini tampil
+    private final Slideshow slideshow;
     private Image currentImage;
-    private int currentIndex = 0;
     private float timer = 0f;
     private boolean isTransitioning = false;
+    private boolean waitingForSlide = false; // slide berikutnya belum selesai di-upload
 
     public IntroScreen(Main game) {
         this.game = game;
+        this.assets = game.getAssets();
+        slideshow = new Slideshow(Assets.INTRO_SLIDES, assets.getFileHandleResolver());
         stage = new Stage(new ScreenViewport());
         batch = new SpriteBatch();
-        font = new BitmapFont();
-        font.getData().setScale(2f); // Memperbesar ukuran font
+        // font besar sudah di-bake 2x (Assets.BIG_FONT), tidak di-scale supaya glyph tetap tajam
+        font = assets.get(Assets.BIG_FONT);
+        // teks di-layout sekali; kedipnya hanya alpha saat draw
+        tapLabel = new HudLabel(font);
+        tapLabel.changed(0);
+        tapLabel.text().append("TAP ANYWHERE TO START");
 
         // --- SETUP AUDIO ---
-        // Memuat musik dari folder assets/sound/soundEpic.mp3
-        try {
-            introMusic = Gdx.audio.newMusic(Gdx.files.internal("sound/soundEpic.ogg"));
-            introMusic.setLooping(true); // Musik mengulang terus
-            introMusic.setVolume(0.5f);  // Volume 50%
-            introMusic.play();           // Mainkan langsung
-        } catch (Exception e) {
-            System.out.println("Error memuat musik: " + e.getMessage());
-        }
+        // Musik mengulang terus, volume 50%, crossfade dari musik screen sebelumnya
+        game.getMusic().play(Assets.INTRO_MUSIC, true, 0.5f, MusicManager.DEFAULT_FADE);
 
         // --- SETUP START SCREEN ---
-        // Memuat gambar start.png (pastikan ada di root assets)
-        startBgTexture = new Texture("start.png");
+        startBgTexture = assets.get(Assets.START);
         startImageActor = new Image(startBgTexture);
         startImageActor.setFillParent(true);
 
@@ -92,17 +80,23 @@ public class IntroScreen implements Screen {
     }
 
     /**
-     * Memuat gambar cerita berikutnya dari array introImages.
+     * Menampilkan gambar cerita berikutnya dari Slideshow.
      */
     private void loadNextImage() {
-        if (currentIndex >= introImages.length) {
+        if (slideshow.isFinished()) {
             // Jika gambar habis, masuk ke GameScreen
             fadeOutAndStartGame();
             return;
         }
+        if (!slideshow.isNextReady()) {
+            // render() mencoba lagi tiap frame sampai slide siap
+            waitingForSlide = true;
+            return;
+        }
+        waitingForSlide = false;
 
-        Texture tex = new Texture(introImages[currentIndex]);
-        textures.add(tex); // Simpan referensi texture untuk didispose nanti
+        // slide sebelumnya langsung di-dispose oleh Slideshow
+        Texture tex = slideshow.advance();
 
         currentImage = new Image(tex);
         currentImage.setFillParent(true);
@@ -121,8 +115,9 @@ public class IntroScreen implements Screen {
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        stage.act(delta);
-        stage.draw();
+        slideshow.update();
+        JfrEvents.act(stage, "IntroScreen", delta);
+        JfrEvents.draw(stage, "IntroScreen");
 
         // ==========================================
         // LOGIKA 1: START SCREEN (TAP TO START)
@@ -133,11 +128,9 @@ public class IntroScreen implements Screen {
             float alpha = (float) Math.abs(Math.sin(blinkTimer * 2));
 
             batch.begin();
-            font.setColor(1, 1, 1, alpha);
-            GlyphLayout layout = new GlyphLayout(font, "TAP ANYWHERE TO START");
-            float fontX = (Gdx.graphics.getWidth() - layout.width) / 2;
+            float fontX = (Gdx.graphics.getWidth() - tapLabel.getWidth()) / 2;
             float fontY = (Gdx.graphics.getHeight() / 2) - 100; // Posisi di bawah tengah
-            font.draw(batch, layout, fontX, fontY);
+            tapLabel.draw(batch, fontX, fontY, alpha);
             batch.end();
 
             // Jika user klik layar, mulai intro
@@ -151,6 +144,10 @@ public class IntroScreen implements Screen {
         // LOGIKA 2: INTRO CERITA SLIDESHOW
         // ==========================================
         if (isTransitioning) return;
+        if (waitingForSlide) {
+            loadNextImage();
+            return;
+        }
 
         timer += delta;
 
@@ -172,7 +169,6 @@ public class IntroScreen implements Screen {
         currentImage.addAction(Actions.sequence(
             Actions.fadeOut(1.2f),
             Actions.run(() -> {
-                currentIndex++;
                 isTransitioning = false;
                 loadNextImage();
             })
@@ -182,14 +178,12 @@ public class IntroScreen implements Screen {
     private void fadeOutAndStartGame() {
         isTransitioning = true;
 
+        // musik memudar selama fade-out dan loading, tidak berhenti mendadak
+        game.getMusic().stop(MusicManager.DEFAULT_FADE);
+
         // Siapkan perintah pindah screen
         Runnable switchScreen = () -> {
-            // STOP MUSIK SEBELUM PINDAH
-            if (introMusic != null && introMusic.isPlaying()) {
-                introMusic.stop();
-            }
-
-            game.setScreen(new GameScreen(game));
+            game.setScreen(new LoadingScreen(game, Assets.GAME, Assets.INTRO, () -> new GameScreen(game)));
             dispose(); // Bersihkan memori IntroScreen
         };
 
@@ -217,16 +211,7 @@ public class IntroScreen implements Screen {
     public void dispose() {
         stage.dispose();
         batch.dispose();
-        font.dispose();
-
-        // Jangan lupa dispose musik agar memori tidak bocor
-        if (introMusic != null) {
-            introMusic.dispose();
-        }
-
-        if (startBgTexture != null) startBgTexture.dispose();
-        for (Texture t : textures) {
-            if (t != null) t.dispose();
-        }
+        slideshow.dispose();
+        // texture & font milik AssetManager, dilepas LoadingScreen berikutnya; musik milik MusicManager
     }
 }
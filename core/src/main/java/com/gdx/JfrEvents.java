@@ -0,0 +1,126 @@
+package com.gdx;
+
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder events for the parts of a frame that can stutter. They cost next to nothing
+ * unless a recording has them enabled (see lwjgl3's --jfr option and game.jfc).
+ * Usage: create, begin(), do the work, then fill the fields and commit() only if shouldCommit().
+ */
+public final class JfrEvents {
+    private static final String CATEGORY = "GameJavaPBO";
+
+    private JfrEvents() {}
+
+    /** stage.act(delta) recorded as a StageAct event. */
+    public static void act(Stage stage, String screen, float delta) {
+        StageAct event = new StageAct();
+        event.begin();
+        stage.act(delta);
+        event.end();
+        if (event.shouldCommit()) {
+            event.screen = screen;
+            event.actors = stage.getActors().size;
+            event.commit();
+        }
+    }
+
+    /** stage.draw() recorded as a StageDraw event. */
+    public static void draw(Stage stage, String screen) {
+        StageDraw event = new StageDraw();
+        event.begin();
+        stage.draw();
+        event.end();
+        if (event.shouldCommit()) {
+            event.screen = screen;
+            event.actors = stage.getActors().size;
+            event.commit();
+        }
+    }
+
+    @Name("com.gdx.Update")
+    @Label("Update")
+    @Description("Fixed-step simulation of one GameScreen frame")
+    @Category({CATEGORY, "Simulation"})
+    @StackTrace(false)
+    public static class Update extends Event {
+        @Label("Steps") public int steps;
+        @Label("Enemies") public int enemies;
+        @Label("Projectiles") public int projectiles;
+    }
+
+    @Name("com.gdx.Collision")
+    @Label("Collision")
+    @Description("Grid rebuild through the last hit test of one World step; a wave spawned in between has its own event")
+    @Category({CATEGORY, "Simulation"})
+    @StackTrace(false)
+    public static class Collision extends Event {
+        @Label("Enemies") public int enemies;
+        @Label("Projectiles") public int projectiles;
+        @Label("Bombs") public int bombs;
+        @Label("Damage To Player") public float damage;
+    }
+
+    @Name("com.gdx.WaveSpawn")
+    @Label("Wave Spawn")
+    @Category({CATEGORY, "Simulation"})
+    @StackTrace(false)
+    public static class WaveSpawn extends Event {
+        @Label("Spawned") public int spawned;
+        @Label("Kill Count") public int killCount;
+    }
+
+    @Name("com.gdx.Render")
+    @Label("Render")
+    @Description("RenderPipeline.render of one GameScreen frame")
+    @Category({CATEGORY, "Render"})
+    @StackTrace(false)
+    public static class Render extends Event {
+        // 0 kecuali GLProfiler aktif (PerfOverlay atau -Dgdx.debug.perf)
+        @Label("Draw Calls") public int drawCalls;
+        @Label("Enemies") public int enemies;
+    }
+
+    @Name("com.gdx.StageAct")
+    @Label("Stage.act")
+    @Category({CATEGORY, "Render"})
+    @StackTrace(false)
+    public static class StageAct extends Event {
+        @Label("Screen") public String screen;
+        @Label("Actors") public int actors;
+    }
+
+    @Name("com.gdx.StageDraw")
+    @Label("Stage.draw")
+    @Category({CATEGORY, "Render"})
+    @StackTrace(false)
+    public static class StageDraw extends Event {
+        @Label("Screen") public String screen;
+        @Label("Actors") public int actors;
+    }
+
+    @Name("com.gdx.AssetLoad")
+    @Label("Asset Load")
+    @Description("One asset, from the end of the previous load (AssetManager loads one at a time) until it is ready")
+    @Category({CATEGORY, "Assets"})
+    @StackTrace(false)
+    public static class AssetLoad extends Event {
+        @Label("Path") public String path;
+        @Label("Type") public String type;
+    }
+
+    @Name("com.gdx.ScreenTransition")
+    @Label("Screen Transition")
+    @Description("Game.setScreen: hide of the old screen and show of the new one")
+    @Category({CATEGORY, "Screens"})
+    public static class ScreenTransition extends Event {
+        @Label("From") public String from;
+        @Label("To") public String to;
+    }
+}
@@ -0,0 +1,137 @@
+package com.gdx;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+
+import java.util.function.Supplier;
+
+/**
+ * Queues an Assets group, shows a progress bar while the AssetManager decodes it in the background,
+ * then switches to the screen built by next. Only LOAD_BUDGET_MS of each frame goes to finishing
+ * loads on the render thread (GL uploads), so the window keeps drawing the whole time.
+ * Groups go through Main's TextureCache. The group of the screen being left is released only after
+ * the new group is loaded, so assets both screens use (e.g. restarting GameScreen) keep their
+ * reference and are never reloaded.
+ */
+public class LoadingScreen implements Screen {
+    private static final int LOAD_BUDGET_MS = 12;
+
+    private final Main game;
+    private final AssetManager assets;
+    private final TextureCache cache;
+    private final Array<AssetDescriptor<?>> group;
+    private final Array<AssetDescriptor<?>> release;
+    private final Supplier<Screen> next;
+
+    private final ScreenViewport viewport = new ScreenViewport();
+    private SpriteBatch batch;
+    private ShapeRenderer shapeR;
+    private BitmapFont font;
+
+    // JFR: asset dimuat satu per satu, jadi satu event dihitung dari selesainya asset sebelumnya
+    private JfrEvents.AssetLoad loadEvent = new JfrEvents.AssetLoad();
+    private final boolean[] reported;
+
+    // progress yang ditampilkan mengejar progress asli supaya bar tidak melompat
+    private float shownProgress = 0f;
+
+    /**
+     * @param release group of the screen being left, or null
+     */
+    public LoadingScreen(Main game, Array<AssetDescriptor<?>> group, Array<AssetDescriptor<?>> release, Supplier<Screen> next) {
+        this.game = game;
+        this.assets = game.getAssets();
+        this.cache = game.getTextureCache();
+        this.group = group;
+        this.release = release;
+        this.next = next;
+        cache.acquire(group);
+        reported = new boolean[group.size];
+        loadEvent.begin();
+    }
+
+    @Override
+    public void show() {
+        batch = new SpriteBatch();
+        shapeR = new ShapeRenderer();
+        font = new BitmapFont();
+    }
+
+    @Override
+    public void render(float delta) {
+        ScreenUtils.clear(0, 0, 0, 1);
+
+        boolean done = assets.update(LOAD_BUDGET_MS);
+        recordLoaded();
+        shownProgress = Math.min(assets.getProgress(), shownProgress + delta * 2f);
+        if (done) shownProgress = 1f;
+
+        viewport.apply();
+        float w = viewport.getWorldWidth();
+        float h = viewport.getWorldHeight();
+        float barW = w * 0.6f;
+        float barX = (w - barW) / 2f;
+        float barY = h / 2f - 10f;
+
+        shapeR.setProjectionMatrix(viewport.getCamera().combined);
+        shapeR.begin(ShapeRenderer.ShapeType.Filled);
+        shapeR.setColor(Color.DARK_GRAY);
+        shapeR.rect(barX, barY, barW, 20f);
+        shapeR.setColor(Color.WHITE);
+        shapeR.rect(barX, barY, barW * shownProgress, 20f);
+        shapeR.end();
+
+        batch.setProjectionMatrix(viewport.getCamera().combined);
+        batch.begin();
+        font.setColor(Color.WHITE);
+        font.draw(batch, "Loading... " + (int) (shownProgress * 100) + "%", barX, barY + 50f);
+        batch.end();
+
+        if (done) {
+            if (release != null) cache.release(release);
+            game.setScreen(next.get());
+            dispose();
+        }
+    }
+
+    private void recordLoaded() {
+        for (int i = 0; i < group.size; i++) {
+            AssetDescriptor<?> d = group.get(i);
+            if (reported[i] || !assets.isLoaded(d.fileName, d.type)) continue;
+            reported[i] = true;
+            loadEvent.end();
+            if (loadEvent.shouldCommit()) {
+                loadEvent.path = d.fileName;
+                loadEvent.type = d.type.getSimpleName();
+                loadEvent.commit();
+            }
+            loadEvent = new JfrEvents.AssetLoad();
+            loadEvent.begin();
+        }
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        viewport.update(width, height, true);
+    }
+
+    @Override public void pause() {}
+    @Override public void resume() {}
+    @Override public void hide() {}
+
+    @Override
+    public void dispose() {
+        if (batch != null) batch.dispose();
+        if (shapeR != null) shapeR.dispose();
+        if (font != null) font.dispose();
+    }
+}
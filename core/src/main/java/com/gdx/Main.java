@@ -1,12 +1,71 @@
 package com.gdx;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
 
 public class Main extends Game {
+    /** -Dgdx.debug.perf=true: GLProfiler aktif sejak awal dan GameScreen mencetak statistik berkala. */
+    public static final boolean PERF_DEBUG = Boolean.getBoolean("gdx.debug.perf");
+
+    // Satu profiler untuk seluruh aplikasi, supaya pergantian screen tidak saling mematikan interceptor GL.
+    // Interceptor membebani setiap call GL, jadi di build biasa dimatikan; GameScreen menyalakannya selama PerfOverlay tampil
+    private GLProfiler profiler;
+
+    // Semua texture, suara dan musik dimuat lewat sini (lihat Assets dan LoadingScreen)
+    private AssetManager assets;
+    // texture yang sudah tidak dipakai tetap di VRAM sampai budget habis (LRU)
+    private TextureCache textureCache;
+    // satu pemutar musik untuk semua screen, supaya bisa crossfade saat pindah screen
+    private MusicManager music;
+
     @Override
     public void create() {
-        // Langsung panggil IntroScreen
-        // IntroScreen sekarang akan menangani Start Image dulu, baru Intro Cerita
-        setScreen(new IntroScreen(this));
+        profiler = new GLProfiler(Gdx.graphics);
+        if (PERF_DEBUG) profiler.enable();
+
+        // PNG diganti salinan ETC2 (.ktx) kalau GPU mendukung, lihat CompressedTextures
+        assets = new AssetManager(new CompressedTextures());
+        textureCache = new TextureCache(assets);
+        music = new MusicManager();
+        music.preload(Assets.INTRO_MUSIC);
+
+        // IntroScreen menangani Start Image dulu, baru Intro Cerita
+        setScreen(new LoadingScreen(this, Assets.INTRO, null, () -> new IntroScreen(this)));
+    }
+
+    @Override
+    public void setScreen(Screen screen) {
+        JfrEvents.ScreenTransition event = new JfrEvents.ScreenTransition();
+        event.begin();
+        Screen from = getScreen();
+        super.setScreen(screen);
+        event.end();
+        if (event.shouldCommit()) {
+            event.from = from == null ? null : from.getClass().getSimpleName();
+            event.to = screen == null ? null : screen.getClass().getSimpleName();
+            event.commit();
+        }
     }
+
+    @Override
+    public void render() {
+        music.update(Gdx.graphics.getDeltaTime());
+        super.render();
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        if (getScreen() != null) getScreen().dispose();
+        music.dispose();
+        assets.dispose();
+    }
+
+    public GLProfiler getProfiler() { return profiler; }
+    public AssetManager getAssets() { return assets; }
+    public TextureCache getTextureCache() { return textureCache; }
+    public MusicManager getMusic() { return music; }
 }
@@ -0,0 +1,160 @@
+package com.gdx;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+
+/**
+ * The one music player of the game, owned by Main so a track keeps playing (and fading) across screen changes.
+ * play() crossfades from the current track to the new one; stop() fades the current track out.
+ * Opening a track (the Ogg/MP3 decoder reads and parses the file) and disposing it happen on a
+ * background thread; preload() opens a track early so play() can start it on the next frame.
+ * Streaming itself is done by the audio backend. update() only moves volumes and must run every frame.
+ */
+public class MusicManager implements Disposable {
+    public static final float DEFAULT_FADE = 1.5f;
+
+    private static class Track {
+        final String path;
+        AsyncResult<Music> opening;
+        Music music;
+        float volume;
+        float target;
+        float fadeSpeed;
+        boolean looping;
+        boolean started;
+
+        Track(String path) { this.path = path; }
+    }
+
+    private final AsyncExecutor executor = new AsyncExecutor(1, "Music");
+    private final ObjectMap<String, Track> tracks = new ObjectMap<>();
+    private final Array<Track> fadingOut = new Array<>();
+    private Track current;
+
+    /** Opens a track in the background without playing it. */
+    public void preload(String path) {
+        track(path);
+    }
+
+    /** Crossfades from whatever is playing to path. Playing the current track again only changes its volume. */
+    public void play(String path, boolean looping, float volume, float fadeSeconds) {
+        Track t = track(path);
+        if (t == null) {
+            stop(fadeSeconds);
+            return;
+        }
+        if (t != current) {
+            if (current != null) fadeOut(current, fadeSeconds);
+            // track yang sedang fade-out bisa diambil kembali
+            fadingOut.removeValue(t, true);
+            current = t;
+        }
+        t.looping = looping;
+        t.target = volume;
+        t.fadeSpeed = fadeSeconds > 0 ? volume / fadeSeconds : Float.MAX_VALUE;
+    }
+
+    /** Fades the current track out and closes it. */
+    public void stop(float fadeSeconds) {
+        if (current == null) return;
+        fadeOut(current, fadeSeconds);
+        current = null;
+    }
+
+    public boolean isPlaying(String path) {
+        return current != null && current.path.equals(path);
+    }
+
+    /** Call once per frame, before the screen renders. */
+    public void update(float delta) {
+        if (current != null && poll(current)) {
+            if (!current.started) {
+                current.started = true;
+                current.music.setLooping(current.looping);
+                current.music.setVolume(current.volume);
+                current.music.play();
+            }
+            step(current, delta);
+        }
+
+        for (int i = fadingOut.size - 1; i >= 0; i--) {
+            Track t = fadingOut.get(i);
+            if (poll(t)) step(t, delta);
+            if (t.music == null || t.volume <= 0f) {
+                fadingOut.removeIndex(i);
+                close(t);
+            }
+        }
+    }
+
+    private Track track(String path) {
+        Track t = tracks.get(path);
+        if (t != null) return t;
+
+        final FileHandle file = Gdx.files.internal(path);
+        if (!file.exists()) {
+            Gdx.app.error("MusicManager", path + " tidak ditemukan");
+            return null;
+        }
+        t = new Track(path);
+        t.opening = executor.submit(() -> Gdx.audio.newMusic(file));
+        tracks.put(path, t);
+        return t;
+    }
+
+    // true kalau decoder track sudah siap
+    private boolean poll(Track t) {
+        if (t.music == null && t.opening.isDone()) {
+            t.music = t.opening.get();
+            t.opening = null;
+        }
+        return t.music != null;
+    }
+
+    private void step(Track t, float delta) {
+        if (t.volume < t.target) t.volume = Math.min(t.target, t.volume + t.fadeSpeed * delta);
+        else if (t.volume > t.target) t.volume = Math.max(t.target, t.volume - t.fadeSpeed * delta);
+        t.music.setVolume(t.volume);
+    }
+
+    private void fadeOut(Track t, float fadeSeconds) {
+        t.target = 0f;
+        t.fadeSpeed = fadeSeconds > 0 ? Math.max(t.volume, 0.01f) / fadeSeconds : Float.MAX_VALUE;
+        if (!fadingOut.contains(t, true)) fadingOut.add(t);
+    }
+
+    private void close(Track t) {
+        tracks.remove(t.path);
+        final Music music = t.music;
+        if (music != null) {
+            // stop di thread render (backend mendaftarkan music yang diputar di sana), dispose di belakang
+            music.stop();
+            executor.submit(() -> {
+                music.dispose();
+                return null;
+            });
+        } else {
+            // masih dibuka: executor satu thread, jadi tugas ini jalan setelah newMusic selesai
+            final AsyncResult<Music> opening = t.opening;
+            executor.submit(() -> {
+                opening.get().dispose();
+                return null;
+            });
+        }
+    }
+
+    @Override
+    public void dispose() {
+        for (Track t : tracks.values().toArray()) close(t);
+        fadingOut.clear();
+        current = null;
+        // menunggu semua dispose selesai
+        executor.dispose();
+    }
+}
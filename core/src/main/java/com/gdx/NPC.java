@@ -1,17 +1,15 @@
 package com.gdx;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.scenes.scene2d.Actor;
 
 /**
  * NPC handles simple enter/wait/leave animations and exposes a frame for rendering.
  * Comments explain state intent and frame extraction logic.
  */
-public class NPC extends Actor {
+public class NPC extends GameActor {
 
     public enum State {
         ENTERING,
@@ -21,7 +19,7 @@ public class NPC extends Actor {
     }
 
     public State state = State.IDLE;
-    Animation<TextureRegion> walkAnim;
+    FacingAnimation walkAnim;
     TextureRegion idleFrame;
     TextureRegion[] walkFrames;
     public Rectangle hitbox;
@@ -29,26 +27,29 @@ public class NPC extends Actor {
     float stateTime = 0f;
     float scale = 0.25f;
     float stopX = 100; // where NPC stops for dialog
+    float frameScale = scale / GameAtlas.PLAYER_PACK_SCALE;
+    float cropOffsetX, cropOffsetXLeft, cropOffsetY;
 
-    public NPC(float x, float y, Texture npcSheet) {
+    public NPC(float x, float y, GameAtlas atlas) {
         setPosition(x, y);
+        TextureRegion[][] frames = atlas.playerFrames();
 
-        // sprite sheet layout: 2 rows x 7 cols
-        int cols = 7;
-        int rows = 2;
-        int frameW = npcSheet.getWidth() / cols;
-        int frameH = npcSheet.getHeight() / rows;
-        TextureRegion[][] tmp = TextureRegion.split(npcSheet, frameW, frameH);
-
+        // NPC memakai sheet yang sama dengan player (sprite.png), yang di atlas sudah dicrop per cell.
         // row 1 = walk frames, row 0 frame 0 = idle
+        int cols = frames[1].length;
         walkFrames = new TextureRegion[cols];
-        for (int i = 0; i < cols; i++) walkFrames[i] = tmp[1][i];
-        idleFrame = tmp[0][0];
+        for (int i = 0; i < cols; i++) walkFrames[i] = frames[1][i];
+        idleFrame = frames[0][0];
 
-        walkAnim = new Animation<TextureRegion>(0.12f, walkFrames);
+        walkAnim = atlas.animation(0.12f, walkFrames, Animation.PlayMode.NORMAL);
 
-        // hitbox sized from raw frame dims and scale
-        hitbox = new Rectangle(getX(), getY(),  frameW * scale, frameH * scale);
+        // hitbox tetap seukuran cell asli, frame digambar di offset crop-nya di dalam cell itu
+        float cell = GameAtlas.PLAYER_CELL_SIZE * scale;
+        setSize(cell, cell);
+        hitbox = new Rectangle(getX(), getY(), cell, cell);
+        cropOffsetX = GameAtlas.PLAYER_CROP_X * scale;
+        cropOffsetXLeft = (GameAtlas.PLAYER_CELL_SIZE - GameAtlas.PLAYER_CROP_X - GameAtlas.PLAYER_CROP_W) * scale;
+        cropOffsetY = (GameAtlas.PLAYER_CELL_SIZE - GameAtlas.PLAYER_CROP_Y - GameAtlas.PLAYER_CROP_H) * scale;
     }
 
     public void startEnter() { state = State.ENTERING; stateTime = 0f; }
@@ -77,20 +78,17 @@ public class NPC extends Actor {
 
     @Override
     public void draw(Batch batch, float parentAlpha) {
+        // hanya saat LEAVING NPC menghadap kiri
+        boolean facingRight = state != State.LEAVING;
         TextureRegion frame;
         if (state == state.ENTERING || state == State.LEAVING) {
-            frame = walkAnim.getKeyFrame(stateTime, true);
+            frame = walkAnim.getKeyFrame(stateTime, true, facingRight);
         } else {
             frame = idleFrame;
         }
-        TextureRegion r = new TextureRegion(frame);
-        if (state == state.ENTERING) {
-            if (r.isFlipX()) r.flip(true, false);
-        }
-        if (state == State.LEAVING) {
-            if (!r.isFlipX()) r.flip(true, false);
-        }
-        batch.draw(r, getX(), getY(), r.getRegionWidth() * scale, r.getRegionHeight() * scale);
+        // cell yang di-flip ikut mencerminkan posisi crop di dalamnya
+        float offsetX = facingRight ? cropOffsetX : cropOffsetXLeft;
+        batch.draw(frame, drawX() + offsetX, drawY() + cropOffsetY, frame.getRegionWidth() * frameScale, frame.getRegionHeight() * frameScale);
     }
 
     public Rectangle getHitbox() { return hitbox; }
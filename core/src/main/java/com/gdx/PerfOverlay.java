@@ -0,0 +1,165 @@
+package com.gdx;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.StringBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Frame-cost overlay drawn in the screen UI layer: frame time percentiles, GLProfiler counters,
+ * entity counts, enemy AI level of detail, heap and per-frame allocation, and the update / render / HUD
+ * phase times of GameScreen.
+ * Off by default: F2 toggles it, -Dgdx.debug.perf=true starts with it on. Samples are kept even when
+ * hidden, so the numbers are meaningful as soon as it is shown.
+ * It does not allocate per frame: samples go into fixed arrays, the text into one reused buffer
+ * (see HudLabel), and the text is only rebuilt every REFRESH_INTERVAL seconds.
+ */
+public class PerfOverlay {
+    public static final int TOGGLE_KEY = Input.Keys.F2;
+    // 4 detik pada 60 fps
+    private static final int SAMPLES = 240;
+    private static final float REFRESH_INTERVAL = 0.25f;
+
+    public boolean enabled = Boolean.getBoolean("gdx.debug.perf");
+
+    private final HudLabel label;
+
+    private final float[] frameMs = new float[SAMPLES];
+    private final float[] sorted = new float[SAMPLES];
+    private int sampleCount;
+    private int sampleIndex;
+
+    // angka frame terakhir
+    private int drawCalls, textureBinds, shaderSwitches, vertices;
+    private long updateNanos, renderNanos, hudNanos;
+    private long allocatedBytes = -1;
+    private long allocPerFrame;
+
+    private float refreshTimer;
+    private int refreshes;
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+
+    public PerfOverlay(BitmapFont font) {
+        label = new HudLabel(font);
+    }
+
+    /** Call once per frame to handle the toggle key. */
+    public void pollToggle() {
+        if (Gdx.input.isKeyJustPressed(TOGGLE_KEY)) enabled = !enabled;
+    }
+
+    /** Records the frame time and the bytes the render thread allocated since the last call. */
+    public void frame(float delta) {
+        frameMs[sampleIndex] = delta * 1000f;
+        sampleIndex = (sampleIndex + 1) % SAMPLES;
+        if (sampleCount < SAMPLES) sampleCount++;
+
+        if (THREADS != null) {
+            long now = THREADS.getCurrentThreadAllocatedBytes();
+            allocPerFrame = allocatedBytes < 0 ? 0 : now - allocatedBytes;
+            allocatedBytes = now;
+        }
+        refreshTimer += delta;
+    }
+
+    public void setPhases(long updateNanos, long renderNanos, long hudNanos) {
+        this.updateNanos = updateNanos;
+        this.renderNanos = renderNanos;
+        this.hudNanos = hudNanos;
+    }
+
+    /** Copies this frame's counters; call before the profiler is reset. */
+    public void sampleProfiler(GLProfiler profiler) {
+        drawCalls = profiler.getDrawCalls();
+        textureBinds = profiler.getTextureBindings();
+        shaderSwitches = profiler.getShaderSwitches();
+        vertices = (int) profiler.getVertexCount().total;
+    }
+
+    public void draw(Batch batch, World world, float x, float y) {
+        if (!enabled) return;
+        if (refreshTimer >= REFRESH_INTERVAL || refreshes == 0) {
+            refreshTimer = 0f;
+            if (label.changed(++refreshes)) rebuild(label.text(), world);
+        }
+        label.draw(batch, x, y);
+    }
+
+    private void rebuild(StringBuilder sb, World world) {
+        System.arraycopy(frameMs, 0, sorted, 0, sampleCount);
+        Arrays.sort(sorted, 0, sampleCount);
+
+        sb.append("frame ms  p50 ");
+        appendTenths(sb, percentile(0.50f));
+        sb.append("  p95 ");
+        appendTenths(sb, percentile(0.95f));
+        sb.append("  p99 ");
+        appendTenths(sb, percentile(0.99f));
+        sb.append("  max ");
+        appendTenths(sb, sampleCount > 0 ? sorted[sampleCount - 1] : 0f);
+
+        sb.append("\nGL  draws ").append(drawCalls).append("  binds ").append(textureBinds)
+            .append("  shaders ").append(shaderSwitches).append("  verts ").append(vertices);
+
+        EntityRegistry entities = world.getEntities();
+        ProjectileSystem projectiles = entities.getProjectiles();
+        sb.append("\nenemies ").append(entities.getEnemies().size())
+            .append("  bullets ").append(projectiles.count(ProjectileSystem.OWNER_ENEMY))
+            .append("  bossBullets ").append(projectiles.count(ProjectileSystem.OWNER_BOSS))
+            .append("  bossBombs ").append(entities.getBombs().size)
+            .append("  explosions ").append(entities.getExplosions().size);
+
+        EnemyAiSystem ai = world.getEnemyAi();
+        sb.append("\nai  near ").append(ai.getNearCount()).append("  far ").append(ai.getFarCount())
+            .append("  dormant ").append(ai.getDormantCount()).append("  decisions ").append(ai.getDecisions())
+            .append(" / ").append(ai.decisionBudget);
+
+        Runtime rt = Runtime.getRuntime();
+        sb.append("\nheap ").append((int) ((rt.totalMemory() - rt.freeMemory()) >> 20))
+            .append(" / ").append((int) (rt.maxMemory() >> 20)).append(" MB  alloc/frame ");
+        if (THREADS != null) sb.append((int) allocPerFrame).append(" B");
+        else sb.append("n/a");
+
+        sb.append("\nupdate ");
+        appendTenths(sb, updateNanos / 1e6f);
+        sb.append(" ms  render ");
+        appendTenths(sb, renderNanos / 1e6f);
+        sb.append(" ms  hud ");
+        appendTenths(sb, hudNanos / 1e6f);
+        sb.append(" ms");
+    }
+
+    private float percentile(float p) {
+        if (sampleCount == 0) return 0f;
+        return sorted[Math.min(sampleCount - 1, (int) (p * sampleCount))];
+    }
+
+    // append(float) membuat String, jadi satu desimal ditulis manual
+    private static void appendTenths(StringBuilder sb, float value) {
+        int tenths = Math.round(value * 10f);
+        sb.append(tenths / 10).append('.').append(tenths % 10);
+    }
+
+    // hanya ada di JVM HotSpot/OpenJDK; kalau tidak didukung alloc/frame ditulis n/a
+    private static com.sun.management.ThreadMXBean threadBean() {
+        try {
+            java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+                if (threads.isThreadAllocatedMemorySupported()) {
+                    threads.setThreadAllocatedMemoryEnabled(true);
+                    return threads;
+                }
+            }
+        } catch (UnsupportedOperationException | SecurityException ignored) {
+            // pengukuran alokasi dimatikan oleh JVM
+        }
+        return null;
+    }
+}
@@ -1,17 +1,12 @@
 package com.gdx;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
-import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.scenes.scene2d.Actor;
 
 
-public class Player extends Actor {
+public class Player extends GameActor {
 
     // Health player
     static final int MAX_HEALTH = 100;
@@ -24,16 +19,12 @@ public class Player extends Actor {
     public float velocityY = 0;
     public boolean isGround = true;
 
-    // Arah & Serangan & sound
+    // Arah & Serangan
     public boolean facingRight = true;
     public boolean isAttack = false;
     public float attackTime = 0f;
     public boolean hitRegistered = false;
 
-    Sound hitSound;
-    Sound dashSound;
-    Sound healSound;
-
     // --- SHIELD VARIABLES ---
     public boolean isShielding = false;
 
@@ -42,13 +33,17 @@ public class Player extends Actor {
     public float healCooldown = 5f;
 
     public Rectangle hitbox;
+    private final Rectangle attackHitbox = new Rectangle();
     float scale = 0.2f;
+    // frame di atlas sudah diperkecil PLAYER_PACK_SCALE, jadi sisa skalanya saja
+    float frameScale = scale / GameAtlas.PLAYER_PACK_SCALE;
 
-    Animation<TextureRegion> walkAnim;
-    Animation<TextureRegion> attackAnim;
+    FacingAnimation walkAnim;
+    FacingAnimation attackAnim;
     TextureRegion[] walkFrames;
     TextureRegion[] attackFrames;
     private TextureRegion shieldRegion;
+    private TextureRegion shieldRegionLeft;
 
     // DASH system
     boolean isDashing = false;
@@ -60,40 +55,30 @@ public class Player extends Actor {
 
     float stateTime = 0f;
 
-    // Constructor Updated
-    public Player(float x, float y, Texture spriteSheet, Texture attackSheet, Sound sound, Sound soundDash, Sound healSound, TextureRegion shieldRegion) {
+    // kontrol di-poll GameScreen sekali per frame, diteruskan World tiap step
+    private PlayerInput input = new PlayerInput();
+
+    // Suara dimainkan oleh listener World lewat emit()
+    public Player(float x, float y, GameAtlas atlas) {
         this.setPosition(x, y);
-        this.hitSound = sound;
-        this.dashSound = soundDash;
-        this.healSound = healSound;
-        this.shieldRegion = shieldRegion;
-
-        // character sub-rectangle
-        int charX = 750;
-        int charY = 410;
-        int charW = 585;
-        int charH = 920;
-
-        int frameCols = 7;
-        int frameRows = 2;
-        int frameWidth = spriteSheet.getWidth() / frameCols;
-        int frameHeight = spriteSheet.getHeight() / frameRows;
-        TextureRegion[][] tmpWalk = TextureRegion.split(spriteSheet, frameWidth, frameHeight);
-        TextureRegion[][] tmpAtk = TextureRegion.split(spriteSheet, frameWidth, frameHeight);
+        this.shieldRegion = atlas.region("shield");
+        this.shieldRegionLeft = atlas.mirror(shieldRegion);
+        TextureRegion[][] frames = atlas.playerFrames();
 
+        // frames sudah dicrop ke badan karakter saat packTextures (row 0 = attack, row 1 = walk)
         walkFrames = new TextureRegion[7];
         attackFrames = new TextureRegion[7];
 
         for (int i = 0; i < 7; i++) {
-            walkFrames[i] = new TextureRegion(tmpWalk[1][i], charX, charY, charW, charH);
-            attackFrames[i] = new TextureRegion(tmpAtk[0][i], charX, charY, charW, charH);
+            walkFrames[i] = frames[1][i];
+            attackFrames[i] = frames[0][i];
         }
 
-        walkAnim = new Animation<TextureRegion>(0.1f, walkFrames);
-        attackAnim = new Animation<TextureRegion>(0.1f, attackFrames);
+        walkAnim = atlas.animation(0.1f, walkFrames, Animation.PlayMode.NORMAL);
+        attackAnim = atlas.animation(0.1f, attackFrames, Animation.PlayMode.NORMAL);
 
-        float w = walkFrames[0].getRegionWidth() * scale;
-        float h = walkFrames[0].getRegionHeight() * scale;
+        float w = GameAtlas.PLAYER_CROP_W * scale;
+        float h = GameAtlas.PLAYER_CROP_H * scale;
         setSize(w, h);
 
         hitbox = new Rectangle(getX(), getY(), w - 60, h - 30);
@@ -109,34 +94,27 @@ public class Player extends Actor {
             healTimer -= delta;
         }
 
-        if (Gdx.input.isKeyJustPressed(Input.Keys.H)) {
+        if (input.healPressed) {
             if (healTimer <= 0 && health < MAX_HEALTH) {
                 health += 30;
                 if (health > MAX_HEALTH) health = MAX_HEALTH;
                 healTimer = healCooldown;
 
-                // Play Heal Sound
-                if (healSound != null) {
-                    healSound.play();
-                }
+                emit(World.Event.PLAYER_HEAL);
 
                 System.out.println("Healed! Current HP: " + health);
             }
         }
 
         // Shield Logic Input
-        if (Gdx.input.isButtonPressed(Input.Buttons.RIGHT)) {
-            isShielding = true;
-        } else {
-            isShielding = false;
-        }
+        isShielding = input.shield;
 
         // Speed Adjustment Logic
         if (isShielding) {
             speed = 100f; // Melambat saat shield
         } else {
             // Jika tidak shield, cek sprint
-            if (Gdx.input.isKeyPressed(Input.Keys.SHIFT_LEFT)) {
+            if (input.sprint) {
                 speed = 550f;
             } else {
                 speed = 200f;
@@ -144,35 +122,35 @@ public class Player extends Actor {
         }
 
         // Movement
-        if (Gdx.input.isKeyPressed(Input.Keys.D)) {
+        if (input.right) {
             setX(getX() + speed * delta);
             facingRight = true;
         }
-        if (Gdx.input.isKeyPressed(Input.Keys.A)) {
+        if (input.left) {
             setX(getX() - speed * delta);
             facingRight = false;
         }
 
         // Jump
-        if (Gdx.input.isKeyPressed(Input.Keys.W) && isGround) {
+        if (input.jump && isGround) {
             velocityY = 400;
             isGround = false;
         }
 
         // Dash cooldown
         dashCooldownTimer -= delta;
-        if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE) && dashCooldownTimer <= 0 && !isDashing) {
+        if (input.dashPressed && dashCooldownTimer <= 0 && !isDashing) {
             isDashing = true;
-            this.dashSound.play();
+            emit(World.Event.PLAYER_DASH);
             dashTime = 0f;
             dashCooldownTimer = dashCooldown;
         }
 
-        if (Gdx.input.isButtonJustPressed(Input.Buttons.LEFT) && !isAttack && !isShielding) {
+        if (input.attackPressed && !isAttack && !isShielding) {
             isAttack = true;
             attackTime = 0f;
             hitRegistered = false;
-            hitSound.play();
+            emit(World.Event.PLAYER_ATTACK);
         }
 
         // Attack animation logic
@@ -219,21 +197,13 @@ public class Player extends Actor {
      * Mengambil frame animasi
      */
     public TextureRegion getFrame() {
-        TextureRegion rawFrame;
-        TextureRegion idle = walkFrames[0];
-
         if (isAttack) {
-            rawFrame = attackAnim.getKeyFrame(attackTime, false);
-        } else if (Gdx.input.isKeyPressed(Input.Keys.A) || Gdx.input.isKeyPressed(Input.Keys.D)) {
-            rawFrame = walkAnim.getKeyFrame(stateTime, true);
-        } else {
-            rawFrame = idle;
+            return attackAnim.getKeyFrame(attackTime, false, facingRight);
+        } else if (input.left || input.right) {
+            return walkAnim.getKeyFrame(stateTime, true, facingRight);
         }
-
-        TextureRegion frame = new TextureRegion(rawFrame);
-        if (facingRight && frame.isFlipX()) frame.flip(true, false);
-        if (!facingRight && !frame.isFlipX()) frame.flip(true, false);
-        return frame;
+        // idle = frame pertama walk
+        return walkAnim.getKeyFrame(0f, false, facingRight);
     }
 
     @Override
@@ -241,21 +211,17 @@ public class Player extends Actor {
 
         if (isShielding) {
 
-            boolean flip = !facingRight;
-            if (shieldRegion.isFlipX() != flip) {
-                shieldRegion.flip(true, false);
-            }
-
+            TextureRegion shield = facingRight ? shieldRegion : shieldRegionLeft;
 
             float penyesuaianY = -55f;
             float penyesuaianX = -50f;
 
             batch.draw(
-                shieldRegion,
-                getX() + penyesuaianX,
-                getY() + penyesuaianY,
-                shieldRegion.getRegionWidth() * scale * 2.2f,
-                shieldRegion.getRegionHeight() * scale * 2.2f
+                shield,
+                drawX() + penyesuaianX,
+                drawY() + penyesuaianY,
+                shield.getRegionWidth() * scale * 2.2f,
+                shield.getRegionHeight() * scale * 2.2f
             );
         }
 
@@ -263,9 +229,9 @@ public class Player extends Actor {
             TextureRegion frame = getFrame();
             batch.draw(
                 frame,
-                getX(), getY(),
-                frame.getRegionWidth() * scale,
-                frame.getRegionHeight() * scale
+                drawX(), drawY(),
+                frame.getRegionWidth() * frameScale,
+                frame.getRegionHeight() * frameScale
             );
         }
     }
@@ -279,16 +245,18 @@ public class Player extends Actor {
         float attackWidth = 60;
         float attackHeight = hitbox.height;
         if (facingRight) {
-            return new Rectangle(hitbox.x + hitbox.width, hitbox.y, attackWidth, attackHeight);
+            return attackHitbox.set(hitbox.x + hitbox.width, hitbox.y, attackWidth, attackHeight);
         } else {
-            return new Rectangle(hitbox.x - attackWidth, hitbox.y, attackWidth, attackHeight);
+            return attackHitbox.set(hitbox.x - attackWidth, hitbox.y, attackWidth, attackHeight);
         }
     }
 
     public Rectangle getHitbox() { return hitbox; }
+    public void setInput(PlayerInput input) { this.input = input; }
 
-    public String getDashStatusString() {
-        if (dashCooldownTimer <= 0f) return "DASH: READY";
-        return String.format("DASH: cooldown %.1fs", dashCooldownTimer);
+    /** Sisa cooldown dash dalam sepersepuluh detik seperti yang ditampilkan HUD, 0 kalau siap. */
+    public int getDashCooldownTenths() {
+        if (dashCooldownTimer <= 0f) return 0;
+        return Math.max(1, Math.round(dashCooldownTimer * 10f));
     }
 }
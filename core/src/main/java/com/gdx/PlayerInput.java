@@ -0,0 +1,43 @@
+package com.gdx;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+
+/**
+ * Snapshot of the player's controls, polled once per rendered frame.
+ * "Pressed" flags are latched until a simulation step consumes them, so a tap is never lost
+ * on a frame that runs zero steps and never repeated on a frame that runs several.
+ */
+public class PlayerInput {
+    // tombol yang ditahan
+    public boolean left, right, jump, sprint, shield;
+
+    // tombol yang baru ditekan (latched)
+    public boolean attackPressed, dashPressed, healPressed, touchPressed;
+
+    public void poll() {
+        left = Gdx.input.isKeyPressed(Input.Keys.A);
+        right = Gdx.input.isKeyPressed(Input.Keys.D);
+        jump = Gdx.input.isKeyPressed(Input.Keys.W);
+        sprint = Gdx.input.isKeyPressed(Input.Keys.SHIFT_LEFT);
+        shield = Gdx.input.isButtonPressed(Input.Buttons.RIGHT);
+
+        attackPressed |= Gdx.input.isButtonJustPressed(Input.Buttons.LEFT);
+        dashPressed |= Gdx.input.isKeyJustPressed(Input.Keys.SPACE);
+        healPressed |= Gdx.input.isKeyJustPressed(Input.Keys.H);
+        touchPressed |= Gdx.input.justTouched();
+    }
+
+    /** Dipanggil setelah satu step simulasi memakai input ini. */
+    public void consumePressed() {
+        attackPressed = false;
+        dashPressed = false;
+        healPressed = false;
+        touchPressed = false;
+    }
+
+    public void clear() {
+        left = right = jump = sprint = shield = false;
+        consumePressed();
+    }
+}
@@ -0,0 +1,168 @@
+package com.gdx;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.Arrays;
+
+/**
+ * Every bullet in the world, stored as parallel primitive arrays (structure of arrays).
+ * Updated in one loop, drawn in one pass, and removed by swapping the last projectile into the hole,
+ * so there are no per-bullet objects and the order of projectiles is not stable.
+ */
+public class ProjectileSystem implements GameSystem {
+    public static final int OWNER_ENEMY = 0;
+    public static final int OWNER_BOSS = 1;
+
+    // batas umur supaya peluru yang tidak pernah keluar world tetap hilang
+    public static final float DEFAULT_LIFETIME = 12f;
+
+    private final TextureRegion region;
+    private int size;
+
+    float[] x, y, prevX, prevY;
+    float[] velX, velY;
+    float[] width, height;
+    float[] life;
+    float[] damage;
+    int[] owner;
+
+    public ProjectileSystem(TextureRegion region, int initialCapacity) {
+        this.region = region;
+        allocate(initialCapacity);
+    }
+
+    /**
+     * Adds a projectile and returns its index, which is only valid until the next update or collide.
+     */
+    public int spawn(int owner, float x, float y, float w, float h, float velX, float velY, float damage) {
+        if (size == this.x.length) allocate(size * 2);
+        int i = size++;
+        this.x[i] = x;
+        this.y[i] = y;
+        prevX[i] = x;
+        prevY[i] = y;
+        this.velX[i] = velX;
+        this.velY[i] = velY;
+        width[i] = w;
+        height[i] = h;
+        life[i] = DEFAULT_LIFETIME;
+        this.damage[i] = damage;
+        this.owner[i] = owner;
+        return i;
+    }
+
+    /** Moves every projectile and drops the ones that left the world or ran out of life. */
+    @Override
+    public void update(float delta) {
+        int i = 0;
+        while (i < size) {
+            float nx = x[i] + velX[i] * delta;
+            float ny = y[i] + velY[i] * delta;
+            float l = life[i] - delta;
+            if (l <= 0 || nx < 0 || nx > World.WIDTH || ny < 0 || ny > World.HEIGHT) {
+                // index i sekarang berisi projectile terakhir yang belum di-update, jadi jangan maju
+                removeIndex(i);
+                continue;
+            }
+            x[i] = nx;
+            y[i] = ny;
+            life[i] = l;
+            i++;
+        }
+    }
+
+    /**
+     * Removes every projectile overlapping target and returns the summed damage they carried.
+     */
+    public float collide(Rectangle target) {
+        float total = 0f;
+        float tx = target.x, ty = target.y, tx2 = target.x + target.width, ty2 = target.y + target.height;
+        int i = 0;
+        while (i < size) {
+            if (x[i] < tx2 && x[i] + width[i] > tx && y[i] < ty2 && y[i] + height[i] > ty) {
+                total += damage[i];
+                removeIndex(i);
+                continue;
+            }
+            i++;
+        }
+        return total;
+    }
+
+    public void savePreviousPositions() {
+        System.arraycopy(x, 0, prevX, 0, size);
+        System.arraycopy(y, 0, prevY, 0, size);
+    }
+
+    /**
+     * Draws the projectiles overlapping view between their last two positions; alpha as in GameActor.renderAlpha.
+     */
+    public void draw(Batch batch, float alpha, Rectangle view) {
+        float vx = view.x, vy = view.y, vx2 = view.x + view.width, vy2 = view.y + view.height;
+        for (int i = 0; i < size; i++) {
+            float dx = prevX[i] + (x[i] - prevX[i]) * alpha;
+            float dy = prevY[i] + (y[i] - prevY[i]) * alpha;
+            if (dx >= vx2 || dx + width[i] <= vx || dy >= vy2 || dy + height[i] <= vy) continue;
+            batch.draw(region, dx, dy, width[i], height[i]);
+        }
+    }
+
+    public void clear() { size = 0; }
+    public int size() { return size; }
+
+    /** Number of live projectiles fired by one owner (OWNER_ENEMY / OWNER_BOSS). */
+    public int count(int owner) {
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            if (this.owner[i] == owner) n++;
+        }
+        return n;
+    }
+    public int capacity() { return x.length; }
+
+    private void removeIndex(int i) {
+        int last = --size;
+        if (i == last) return;
+        x[i] = x[last];
+        y[i] = y[last];
+        prevX[i] = prevX[last];
+        prevY[i] = prevY[last];
+        velX[i] = velX[last];
+        velY[i] = velY[last];
+        width[i] = width[last];
+        height[i] = height[last];
+        life[i] = life[last];
+        damage[i] = damage[last];
+        owner[i] = owner[last];
+    }
+
+    private void allocate(int capacity) {
+        if (x == null) {
+            x = new float[capacity];
+            y = new float[capacity];
+            prevX = new float[capacity];
+            prevY = new float[capacity];
+            velX = new float[capacity];
+            velY = new float[capacity];
+            width = new float[capacity];
+            height = new float[capacity];
+            life = new float[capacity];
+            damage = new float[capacity];
+            owner = new int[capacity];
+            return;
+        }
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+        velX = Arrays.copyOf(velX, capacity);
+        velY = Arrays.copyOf(velY, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        life = Arrays.copyOf(life, capacity);
+        damage = Arrays.copyOf(damage, capacity);
+        owner = Arrays.copyOf(owner, capacity);
+    }
+}
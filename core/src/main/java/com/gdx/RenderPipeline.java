@@ -0,0 +1,135 @@
+package com.gdx;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+/**
+ * Draws one frame as an ordered list of layers that share a single SpriteBatch, begun once per frame.
+ * Each layer draws through its own viewport. The batch is only flushed when the viewport changes
+ * between layers (world -> screen UI), never at a layer boundary, so sprites of adjacent layers
+ * on the same atlas page still go out in one draw call.
+ * Draw calls (from the GLProfiler, so only while it is enabled) and batch flushes are counted per layer. A flush caused by a texture
+ * switch is charged to the layer that caused it, and the final flush at end() to the last layer.
+ * With -Dgdx.render.maxDrawCalls=N, a frame that goes over N draw calls throws, so CI runs can
+ * catch batching regressions; the owner then keeps the profiler enabled (see hasDrawCallBudget).
+ */
+public class RenderPipeline {
+    public enum Layer { BACKGROUND, WORLD, EFFECTS, WORLD_UI, SCREEN_UI }
+
+    /** One drawing step of a layer; the batch is already begun with the layer's projection. */
+    public interface Pass {
+        void draw(Batch batch);
+    }
+
+    private static final Layer[] LAYERS = Layer.values();
+
+    private final SpriteBatch batch;
+    private final GLProfiler profiler;
+    private final int maxDrawCalls = Integer.getInteger("gdx.render.maxDrawCalls", -1);
+
+    private final Viewport[] viewports = new Viewport[LAYERS.length];
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final Array<Pass>[] passes = new Array[LAYERS.length];
+
+    // angka frame terakhir per layer
+    private final int[] drawCalls = new int[LAYERS.length];
+    private final int[] flushes = new int[LAYERS.length];
+    private int frameDrawCalls;
+
+    public RenderPipeline(SpriteBatch batch, GLProfiler profiler) {
+        this.batch = batch;
+        this.profiler = profiler;
+        for (int i = 0; i < LAYERS.length; i++) passes[i] = new Array<>();
+    }
+
+    /** Sets the viewport a layer draws through; layers without one reuse the previous layer's. */
+    public RenderPipeline setViewport(Layer layer, Viewport viewport) {
+        viewports[layer.ordinal()] = viewport;
+        return this;
+    }
+
+    public RenderPipeline add(Layer layer, Pass pass) {
+        passes[layer.ordinal()].add(pass);
+        return this;
+    }
+
+    public void render() {
+        Viewport current = null;
+        int lastLayer = -1;
+        int calls = profiler.getDrawCalls();
+        int flushed = 0;
+
+        for (int i = 0; i < LAYERS.length; i++) {
+            Array<Pass> layerPasses = passes[i];
+            if (layerPasses.size == 0) {
+                drawCalls[i] = 0;
+                flushes[i] = 0;
+                continue;
+            }
+            Viewport viewport = viewports[i] != null ? viewports[i] : current;
+            if (viewport == null) {
+                throw new GdxRuntimeException("Layer " + LAYERS[i] + " tidak punya viewport; set lewat setViewport() untuk layer pertama yang dipakai");
+            }
+            if (viewport != current) {
+                // glViewport tidak boleh berubah di tengah batch yang belum di-flush;
+                // flush ini milik layer sebelumnya
+                if (batch.isDrawing()) {
+                    batch.flush();
+                    int nowCalls = profiler.getDrawCalls();
+                    drawCalls[lastLayer] += nowCalls - calls;
+                    flushes[lastLayer] += batch.renderCalls - flushed;
+                    calls = nowCalls;
+                    flushed = batch.renderCalls;
+                }
+                viewport.apply();
+                batch.setProjectionMatrix(viewport.getCamera().combined);
+                current = viewport;
+            }
+            if (!batch.isDrawing()) {
+                batch.begin();
+                flushed = 0;
+            }
+
+            for (int p = 0; p < layerPasses.size; p++) layerPasses.get(p).draw(batch);
+
+            int nowCalls = profiler.getDrawCalls();
+            drawCalls[i] = nowCalls - calls;
+            flushes[i] = batch.renderCalls - flushed;
+            calls = nowCalls;
+            flushed = batch.renderCalls;
+            lastLayer = i;
+        }
+
+        if (batch.isDrawing()) {
+            batch.end();
+            drawCalls[lastLayer] += profiler.getDrawCalls() - calls;
+            flushes[lastLayer] += batch.renderCalls - flushed;
+        }
+
+        frameDrawCalls = 0;
+        for (int c : drawCalls) frameDrawCalls += c;
+        if (maxDrawCalls >= 0 && frameDrawCalls > maxDrawCalls) {
+            throw new GdxRuntimeException("Draw call budget " + maxDrawCalls + " terlampaui: " + report());
+        }
+    }
+
+    public int getDrawCalls(Layer layer) { return drawCalls[layer.ordinal()]; }
+    public int getFlushes(Layer layer) { return flushes[layer.ordinal()]; }
+    public int getFrameDrawCalls() { return frameDrawCalls; }
+    /** True when -Dgdx.render.maxDrawCalls is set, so draw calls have to be counted every frame. */
+    public boolean hasDrawCallBudget() { return maxDrawCalls >= 0; }
+
+    /** Per-layer numbers of the last frame, for logs. */
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(frameDrawCalls).append(" draw calls");
+        for (int i = 0; i < LAYERS.length; i++) {
+            sb.append(", ").append(LAYERS[i]).append(' ').append(drawCalls[i]).append('/').append(flushes[i]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,160 @@
+package com.gdx;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.glutils.GLOnlyTextureData;
+import com.badlogic.gdx.graphics.glutils.KTXTextureData;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Streams a deck of full-screen images for IntroScreen and EndScreen.
+ * While slide N is showing, slide N+1 is decoded to a Pixmap on a background thread and then uploaded
+ * a few rows per frame (UPLOAD_BYTES_PER_FRAME), so no single frame pays for a whole PNG.
+ * advance() disposes the slide it replaces, so at most the shown slide, the next texture and one
+ * decoded Pixmap exist at once, however long the deck is.
+ * Files go through the AssetManager's resolver, so an ETC2 .ktx copy is used when CompressedTextures
+ * picks one; that is read off-thread too and uploaded in one go, as it is 4-8x smaller than the RGBA slide.
+ */
+public class Slideshow implements Disposable {
+    // ~2 MB per frame: slide 1920x1080 RGBA selesai di-upload dalam 4 frame
+    public static final int UPLOAD_BYTES_PER_FRAME = 2 * 1024 * 1024;
+
+    private final String[] files;
+    private final FileHandleResolver resolver;
+    private final AsyncExecutor executor = new AsyncExecutor(1, "Slideshow");
+    private int nextFile = 0;
+
+    private AsyncResult<TextureData> decoding;
+    private Pixmap uploading;
+    private Texture nextTexture;
+    private int uploadedRows;
+    private boolean nextReady;
+
+    private Texture current;
+
+    // JFR: dari mulai decode sampai slide siap di GPU
+    private JfrEvents.AssetLoad loadEvent;
+    private String loadingPath;
+
+    public Slideshow(String[] files, FileHandleResolver resolver) {
+        this.files = files;
+        this.resolver = resolver;
+        prefetch();
+    }
+
+    /**
+     * Call once per frame: picks up a finished decode and uploads the next slice of it.
+     */
+    public void update() {
+        if (decoding != null && decoding.isDone()) {
+            TextureData data = decoding.get();
+            decoding = null;
+            if (data.getType() == TextureData.TextureDataType.Custom) {
+                // ETC2 sudah terkompresi: glCompressedTexImage2D sekaligus
+                nextTexture = new Texture(data);
+                slideReady();
+                return;
+            }
+            uploading = data.consumePixmap();
+            // texture kosong dulu, isinya dikirim bertahap lewat glTexSubImage2D
+            nextTexture = new Texture(new GLOnlyTextureData(uploading.getWidth(), uploading.getHeight(), 0,
+                uploading.getGLInternalFormat(), uploading.getGLFormat(), uploading.getGLType()));
+            uploadedRows = 0;
+        }
+        if (uploading != null) uploadSlice();
+    }
+
+    /** True when the next slide is fully on the GPU and advance() will return it. */
+    public boolean isNextReady() { return nextReady; }
+
+    /** True when every slide has been handed out (missing files are skipped). */
+    public boolean isFinished() {
+        return !nextReady && decoding == null && uploading == null && nextFile >= files.length;
+    }
+
+    /**
+     * Makes the next slide current and returns it, disposing the previous one and starting
+     * the prefetch of the slide after. Only call when isNextReady().
+     */
+    public Texture advance() {
+        if (current != null) current.dispose();
+        current = nextTexture;
+        nextTexture = null;
+        nextReady = false;
+        prefetch();
+        return current;
+    }
+
+    private void prefetch() {
+        while (nextFile < files.length && !resolver.resolve(files[nextFile]).exists()) {
+            Gdx.app.error("Slideshow", files[nextFile] + " tidak ditemukan, dilewati");
+            nextFile++;
+        }
+        if (nextFile >= files.length) return;
+        loadingPath = files[nextFile];
+        loadEvent = new JfrEvents.AssetLoad();
+        loadEvent.begin();
+        final FileHandle file = resolver.resolve(files[nextFile++]);
+        // decode PNG / baca KTX tidak menyentuh GL, jadi aman di thread lain
+        decoding = executor.submit(() -> {
+            TextureData data = TextureData.Factory.loadFromFile(file, false);
+            data.prepare();
+            return data;
+        });
+    }
+
+    private void uploadSlice() {
+        int width = uploading.getWidth();
+        int height = uploading.getHeight();
+        ByteBuffer pixels = uploading.getPixels();
+        int stride = pixels.capacity() / height;
+        int rows = Math.min(Math.max(1, UPLOAD_BYTES_PER_FRAME / stride), height - uploadedRows);
+
+        nextTexture.bind();
+        Gdx.gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 1);
+        pixels.position(uploadedRows * stride);
+        Gdx.gl.glTexSubImage2D(GL20.GL_TEXTURE_2D, 0, 0, uploadedRows, width, rows,
+            uploading.getGLFormat(), uploading.getGLType(), pixels);
+        pixels.position(0);
+        uploadedRows += rows;
+
+        if (uploadedRows >= height) {
+            uploading.dispose();
+            uploading = null;
+            slideReady();
+        }
+    }
+
+    private void slideReady() {
+        nextReady = true;
+        loadEvent.end();
+        if (loadEvent.shouldCommit()) {
+            loadEvent.path = loadingPath;
+            loadEvent.type = "Slide";
+            loadEvent.commit();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        // tunggu decode yang sedang jalan supaya Pixmap-nya bisa dibebaskan
+        if (decoding != null) {
+            TextureData data = decoding.get();
+            if (data.getType() == TextureData.TextureDataType.Pixmap) data.consumePixmap().dispose();
+            else if (data instanceof KTXTextureData) ((KTXTextureData) data).disposePreparedData();
+        }
+        if (uploading != null) uploading.dispose();
+        if (nextTexture != null) nextTexture.dispose();
+        if (current != null) current.dispose();
+        executor.dispose();
+    }
+}
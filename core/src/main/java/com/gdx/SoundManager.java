@@ -0,0 +1,200 @@
+package com.gdx;
+
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.math.MathUtils;
+
+/**
+ * Plays world sounds through a fixed set of voices so a volley of enemy shots cannot use up the
+ * OpenAL sources (16 by default on desktop, shared with Music).
+ * Before a Sound is played:
+ * - sounds further than cullDistance from the listener (camera center) are dropped, nearer ones fade
+ *   linearly from fullVolumeDistance and are panned left/right;
+ * - the same sound played again within MERGE_WINDOW is merged into the voice already playing;
+ * - past the sound's own limit its oldest voice is stopped; past the global limit the oldest voice with
+ *   the lowest priority is stopped, or the new sound is dropped if everything playing matters more.
+ * libGDX cannot tell when a sound id has finished, so each Voice is held for its registered duration.
+ */
+public class SoundManager {
+    public static final int DEFAULT_MAX_VOICES = 12;
+    // dua sound yang sama dalam 30 ms terdengar seperti satu
+    public static final float MERGE_WINDOW = 0.03f;
+    // di bawah ini tidak terdengar, tidak perlu diputar
+    private static final float MIN_GAIN = 0.02f;
+
+    /** A registered sound with its own voice limit, priority, base volume and length in seconds. */
+    public static class Voice {
+        final Sound sound;
+        final int maxVoices;
+        final int priority;
+        final float volume;
+        final float duration;
+        int playing;
+
+        Voice(Sound sound, int maxVoices, int priority, float volume, float duration) {
+            this.sound = sound;
+            this.maxVoices = maxVoices;
+            this.priority = priority;
+            this.volume = volume;
+            this.duration = duration;
+        }
+    }
+
+    // slot aktif, structure-of-arrays seperti ProjectileSystem
+    private final Voice[] voice;
+    private final long[] id;
+    private final float[] start;
+    private final float[] end;
+    private final float[] gain;
+    private int size;
+
+    private float time;
+    private float listenerX, listenerY;
+    public float fullVolumeDistance = 450f;
+    public float cullDistance = 1400f;
+
+    // statistik sejak reset terakhir
+    public int played, culled, merged, stolen, dropped;
+
+    public SoundManager() {
+        this(DEFAULT_MAX_VOICES);
+    }
+
+    public SoundManager(int maxVoices) {
+        voice = new Voice[maxVoices];
+        id = new long[maxVoices];
+        start = new float[maxVoices];
+        end = new float[maxVoices];
+        gain = new float[maxVoices];
+    }
+
+    /**
+     * @param maxVoices how many copies of this sound may play at once
+     * @param priority higher wins when the global limit is reached
+     * @param duration length of the sound in seconds, used to free its voice
+     */
+    public Voice register(Sound sound, int maxVoices, int priority, float volume, float duration) {
+        return new Voice(sound, maxVoices, priority, volume, duration);
+    }
+
+    /** Moves the listener, normally to the camera center, once per frame. */
+    public void setListener(float x, float y) {
+        listenerX = x;
+        listenerY = y;
+    }
+
+    /** Advances the clock and frees voices whose sound has ended. */
+    public void update(float delta) {
+        time += delta;
+        for (int i = size - 1; i >= 0; i--) {
+            if (end[i] <= time) removeAt(i);
+        }
+    }
+
+    /** Plays a sound at world position x,y. Returns the Sound id, or -1 when it was culled or dropped. */
+    public long play(Voice v, float x, float y) {
+        float dx = x - listenerX;
+        float dy = y - listenerY;
+        float dist = (float) Math.sqrt(dx * dx + dy * dy);
+        float g = v.volume * attenuation(dist);
+        if (g < MIN_GAIN) {
+            culled++;
+            return -1;
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (voice[i] == v && time - start[i] <= MERGE_WINDOW) {
+                if (g > gain[i]) {
+                    gain[i] = g;
+                    v.sound.setVolume(id[i], g);
+                }
+                merged++;
+                return id[i];
+            }
+        }
+
+        if (v.playing >= v.maxVoices) {
+            stopAt(oldest(v));
+        } else if (size == voice.length) {
+            int victim = lowestPriority();
+            if (voice[victim].priority > v.priority) {
+                dropped++;
+                return -1;
+            }
+            stopAt(victim);
+        }
+
+        float pan = MathUtils.clamp(dx / cullDistance * 2f, -1f, 1f);
+        long soundId = v.sound.play(g, 1f, pan);
+        if (soundId == -1) {
+            // OpenAL sendiri kehabisan source (mis. dipakai Music)
+            dropped++;
+            return -1;
+        }
+
+        voice[size] = v;
+        id[size] = soundId;
+        start[size] = time;
+        end[size] = time + v.duration;
+        gain[size] = g;
+        size++;
+        v.playing++;
+        played++;
+        return soundId;
+    }
+
+    /** Stops every voice, e.g. when the screen is left. */
+    public void stopAll() {
+        for (int i = size - 1; i >= 0; i--) {
+            voice[i].sound.stop(id[i]);
+            removeAt(i);
+        }
+    }
+
+    public int getActiveVoices() { return size; }
+    public int getMaxVoices() { return voice.length; }
+
+    public void resetStats() {
+        played = culled = merged = stolen = dropped = 0;
+    }
+
+    private float attenuation(float dist) {
+        if (dist <= fullVolumeDistance) return 1f;
+        if (dist >= cullDistance) return 0f;
+        return 1f - (dist - fullVolumeDistance) / (cullDistance - fullVolumeDistance);
+    }
+
+    private int oldest(Voice v) {
+        int best = -1;
+        for (int i = 0; i < size; i++) {
+            if (voice[i] == v && (best < 0 || start[i] < start[best])) best = i;
+        }
+        return best;
+    }
+
+    private int lowestPriority() {
+        int best = 0;
+        for (int i = 1; i < size; i++) {
+            int p = voice[i].priority, bp = voice[best].priority;
+            if (p < bp || (p == bp && start[i] < start[best])) best = i;
+        }
+        return best;
+    }
+
+    private void stopAt(int i) {
+        voice[i].sound.stop(id[i]);
+        stolen++;
+        removeAt(i);
+    }
+
+    // swap-remove: urutan slot tidak penting
+    private void removeAt(int i) {
+        voice[i].playing--;
+        int last = --size;
+        voice[i] = voice[last];
+        id[i] = id[last];
+        start[i] = start[last];
+        end[i] = end[last];
+        gain[i] = gain[last];
+        voice[last] = null;
+    }
+}
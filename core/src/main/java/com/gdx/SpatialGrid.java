@@ -0,0 +1,130 @@
+package com.gdx;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Uniform grid broadphase over the world. Rebuilt every update with clear() + insert(),
+ * then queried with a rectangle or circle and a layer mask.
+ * Each entry is tested at most once per query even if it spans several cells.
+ */
+public class SpatialGrid<T> {
+    // Layer bit untuk collision mask. Musuh ada di Combatants dan peluru di ProjectileSystem;
+    // keduanya dicek langsung di array-nya, jadi tidak punya layer di sini
+    public static final int LAYER_PLAYER = 1;
+    public static final int LAYER_BOSS = 1 << 2;
+    public static final int LAYER_BOMB = 1 << 4;
+
+    private static class Entry<T> {
+        T item;
+        final Rectangle bounds = new Rectangle();
+        int layer;
+        int stamp;
+    }
+
+    private final float cellSize;
+    private final int cols, rows;
+    private final IntArray[] cells;
+    private final IntArray usedCells = new IntArray();
+    private final Array<Entry<T>> entries = new Array<>();
+    private int entryCount = 0;
+    private int stamp = 0;
+
+    public SpatialGrid(float worldWidth, float worldHeight, float cellSize) {
+        this.cellSize = cellSize;
+        cols = MathUtils.ceil(worldWidth / cellSize);
+        rows = MathUtils.ceil(worldHeight / cellSize);
+        cells = new IntArray[cols * rows];
+        for (int i = 0; i < cells.length; i++) cells[i] = new IntArray(false, 4);
+    }
+
+    public void clear() {
+        for (int i = 0; i < usedCells.size; i++) cells[usedCells.get(i)].clear();
+        usedCells.clear();
+        for (int i = 0; i < entryCount; i++) entries.get(i).item = null;
+        entryCount = 0;
+    }
+
+    public void insert(T item, Rectangle bounds, int layer) {
+        if (entryCount == entries.size) entries.add(new Entry<>());
+        int index = entryCount++;
+        Entry<T> e = entries.get(index);
+        e.item = item;
+        e.bounds.set(bounds);
+        e.layer = layer;
+        e.stamp = stamp;
+
+        int x0 = cellX(bounds.x), x1 = cellX(bounds.x + bounds.width);
+        int y0 = cellY(bounds.y), y1 = cellY(bounds.y + bounds.height);
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                IntArray cell = cells[cy * cols + cx];
+                if (cell.size == 0) usedCells.add(cy * cols + cx);
+                cell.add(index);
+            }
+        }
+    }
+
+    /** Adds every item on a layer in mask whose bounds overlap area to out. */
+    public Array<T> queryRect(Rectangle area, int mask, Array<T> out) {
+        stamp++;
+        int x0 = cellX(area.x), x1 = cellX(area.x + area.width);
+        int y0 = cellY(area.y), y1 = cellY(area.y + area.height);
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                IntArray cell = cells[cy * cols + cx];
+                for (int i = 0; i < cell.size; i++) {
+                    Entry<T> e = visit(cell.get(i), mask);
+                    if (e != null && e.bounds.overlaps(area)) out.add(e.item);
+                }
+            }
+        }
+        return out;
+    }
+
+    /** Adds every item on a layer in mask whose bounds touch the circle to out. */
+    public Array<T> queryCircle(float x, float y, float radius, int mask, Array<T> out) {
+        stamp++;
+        int x0 = cellX(x - radius), x1 = cellX(x + radius);
+        int y0 = cellY(y - radius), y1 = cellY(y + radius);
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                IntArray cell = cells[cy * cols + cx];
+                for (int i = 0; i < cell.size; i++) {
+                    Entry<T> e = visit(cell.get(i), mask);
+                    if (e != null && overlapsCircle(e.bounds, x, y, radius)) out.add(e.item);
+                }
+            }
+        }
+        return out;
+    }
+
+    /** Rectangle vs circle test without a square root. */
+    public static boolean overlapsCircle(Rectangle r, float x, float y, float radius) {
+        float nearestX = MathUtils.clamp(x, r.x, r.x + r.width);
+        float nearestY = MathUtils.clamp(y, r.y, r.y + r.height);
+        float dx = x - nearestX;
+        float dy = y - nearestY;
+        return dx * dx + dy * dy <= radius * radius;
+    }
+
+    public int size() { return entryCount; }
+
+    // tandai entry sudah dicek di query ini; null kalau sudah pernah atau layer tidak cocok
+    private Entry<T> visit(int index, int mask) {
+        Entry<T> e = entries.get(index);
+        if (e.stamp == stamp) return null;
+        e.stamp = stamp;
+        return (e.layer & mask) != 0 ? e : null;
+    }
+
+    private int cellX(float x) {
+        return MathUtils.clamp((int) Math.floor(x / cellSize), 0, cols - 1);
+    }
+
+    private int cellY(float y) {
+        return MathUtils.clamp((int) Math.floor(y / cellSize), 0, rows - 1);
+    }
+}
@@ -0,0 +1,148 @@
+package com.gdx;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.glutils.KTXTextureData;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Process-wide cache on top of Main's AssetManager, which already keys assets by path, counts
+ * references and never loads a file twice.
+ * What it adds: when the last screen releases a texture or atlas, the cache keeps that last reference
+ * ("parked") instead of unloading it, so Intro -> Game -> End -> Intro does not decode and upload the
+ * same images again. Parked assets are unloaded least-recently-used first once the estimated VRAM of
+ * all resident textures goes over the budget (-Dgdx.textureCache.mb, default DEFAULT_BUDGET_MB).
+ * Sounds and music are not VRAM and are released right away.
+ */
+public class TextureCache {
+    public static final int DEFAULT_BUDGET_MB = 128;
+
+    // glInternalFormat KTX yang 4 bit per pixel (lihat compressTextures di core/build.gradle)
+    private static final int GL_ETC1_RGB8 = 0x8D64;
+    private static final int GL_COMPRESSED_RGB8_ETC2 = 0x9274;
+    private static final int GL_COMPRESSED_SRGB8_ETC2 = 0x9275;
+    private static final int GL_COMPRESSED_RGB8_PUNCHTHROUGH_ALPHA1_ETC2 = 0x9276;
+    private static final int GL_COMPRESSED_SRGB8_PUNCHTHROUGH_ALPHA1_ETC2 = 0x9277;
+
+    private final AssetManager manager;
+    private final long budgetBytes;
+
+    // access-order: iterasi dimulai dari asset yang paling lama tidak dipakai
+    private final LinkedHashMap<String, AssetDescriptor<?>> parked = new LinkedHashMap<>(16, 0.75f, true);
+    private final Array<Texture> resident = new Array<>();
+
+    public TextureCache(AssetManager manager) {
+        this(manager, Long.getLong("gdx.textureCache.mb", DEFAULT_BUDGET_MB) * 1024L * 1024L);
+    }
+
+    public TextureCache(AssetManager manager, long budgetBytes) {
+        this.manager = manager;
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Queues every asset of a group on the AssetManager; parked assets are handed back without loading.
+     * Files that do not exist are skipped with a warning, so screens check isLoaded() for content that may be missing.
+     */
+    public void acquire(Array<AssetDescriptor<?>> group) {
+        for (AssetDescriptor<?> d : group) {
+            // referensi yang dipegang cache sekarang jadi milik screen
+            if (parked.remove(d.fileName) != null) continue;
+            if (!manager.getFileHandleResolver().resolve(d.fileName).exists()) {
+                Gdx.app.error("TextureCache", d.fileName + " tidak ditemukan, dilewati");
+                continue;
+            }
+            manager.load(d);
+        }
+    }
+
+    /** Releases one reference to every loaded asset of a group, parking textures nobody else holds. */
+    public void release(Array<AssetDescriptor<?>> group) {
+        for (AssetDescriptor<?> d : group) {
+            if (!manager.isLoaded(d.fileName, d.type) || parked.containsKey(d.fileName)) continue;
+            if (isTexture(d) && manager.getReferenceCount(d.fileName) == 1) {
+                parked.put(d.fileName, d);
+            } else {
+                manager.unload(d.fileName);
+            }
+        }
+        trim();
+    }
+
+    /** Unloads parked assets, oldest first, until resident textures fit the budget. */
+    public void trim() {
+        long used = getResidentBytes();
+        Iterator<AssetDescriptor<?>> it = parked.values().iterator();
+        while (used > budgetBytes && it.hasNext()) {
+            AssetDescriptor<?> d = it.next();
+            it.remove();
+            used -= bytesOf(d);
+            manager.unload(d.fileName);
+            Gdx.app.log("TextureCache", "evict " + d.fileName);
+        }
+    }
+
+    /** Estimated VRAM of every texture the AssetManager holds, including atlas pages. */
+    public long getResidentBytes() {
+        manager.getAll(Texture.class, resident);
+        long total = 0;
+        for (int i = 0; i < resident.size; i++) total += textureBytes(resident.get(i));
+        resident.clear();
+        return total;
+    }
+
+    public long getBudgetBytes() { return budgetBytes; }
+    public int getParkedCount() { return parked.size(); }
+
+    private static boolean isTexture(AssetDescriptor<?> d) {
+        return d.type == Texture.class || d.type == TextureAtlas.class;
+    }
+
+    private long bytesOf(AssetDescriptor<?> d) {
+        if (d.type == Texture.class) return textureBytes(manager.get(d.fileName, Texture.class));
+        long total = 0;
+        for (Texture t : manager.get(d.fileName, TextureAtlas.class).getTextures()) total += textureBytes(t);
+        return total;
+    }
+
+    static long textureBytes(Texture texture) {
+        long pixels = (long) texture.getWidth() * texture.getHeight();
+        TextureData data = texture.getTextureData();
+        // KTX (ETC2) tidak punya Pixmap.Format, ukurannya dari glInternalFormat
+        if (data instanceof KTXTextureData) return compressedBytes(((KTXTextureData) data).getGlInternalFormat(), pixels);
+        if (data.getType() == TextureData.TextureDataType.Custom) return pixels;
+        switch (data.getFormat()) {
+            case Alpha:
+            case Intensity:
+                return pixels;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                return pixels * 2;
+            case RGB888:
+                return pixels * 3;
+            default:
+                return pixels * 4;
+        }
+    }
+
+    private static long compressedBytes(int glInternalFormat, long pixels) {
+        switch (glInternalFormat) {
+            case GL_ETC1_RGB8:
+            case GL_COMPRESSED_RGB8_ETC2:
+            case GL_COMPRESSED_SRGB8_ETC2:
+            case GL_COMPRESSED_RGB8_PUNCHTHROUGH_ALPHA1_ETC2:
+            case GL_COMPRESSED_SRGB8_PUNCHTHROUGH_ALPHA1_ETC2:
+                return pixels / 2; // 4 bit per pixel
+            default:
+                return pixels; // RGBA8 ETC2 EAC dan format lain yang tidak dikenal: 8 bit per pixel
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.gdx;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * What the world camera currently sees, grown by a margin, for skipping off-screen draws.
+ * Update once per frame after the camera moved, then ask visible() before drawing each entity.
+ */
+public class ViewBounds {
+    // cukup lebar untuk sprite yang digambar di luar hitbox-nya (boss bernafas, offset crop NPC)
+    public static final float DEFAULT_MARGIN = 96f;
+
+    public final Rectangle rect = new Rectangle();
+    private float margin = DEFAULT_MARGIN;
+
+    // jumlah entity yang dilewati sejak update() terakhir
+    private int culled;
+
+    public void update(Camera cam) {
+        float zoom = (cam instanceof OrthographicCamera) ? ((OrthographicCamera) cam).zoom : 1f;
+        float w = cam.viewportWidth * zoom;
+        float h = cam.viewportHeight * zoom;
+        rect.set(cam.position.x - w / 2f - margin, cam.position.y - h / 2f - margin, w + margin * 2f, h + margin * 2f);
+        culled = 0;
+    }
+
+    public boolean visible(float x, float y, float width, float height) {
+        if (x < rect.x + rect.width && x + width > rect.x && y < rect.y + rect.height && y + height > rect.y) return true;
+        culled++;
+        return false;
+    }
+
+    public boolean visible(Rectangle r) {
+        return visible(r.x, r.y, r.width, r.height);
+    }
+
+    /** Uses the interpolated draw position, so the test matches where the actor is drawn. */
+    public boolean visible(GameActor a) {
+        return visible(a.drawX(), a.drawY(), a.getWidth(), a.getHeight());
+    }
+
+    public void setMargin(float margin) { this.margin = margin; }
+    public int getCulled() { return culled; }
+}
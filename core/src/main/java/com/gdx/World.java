@@ -0,0 +1,376 @@
+package com.gdx;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Gameplay simulation without any rendering or audio: player, NPC, enemies, boss, projectiles,
+ * waves and win/lose state. Advanced one fixed step at a time with tick(); GameScreen only draws it
+ * and turns Events into sounds. Build it with GameAtlas.headless() to run without a GL context.
+ */
+public class World {
+    public static final int WIDTH = 5000;
+    public static final int HEIGHT = 2000;
+
+    public static final int KILL_TARGET = 20;
+    public static final int WIN_TARGET = 21; // Target untuk menang
+    public static final int WAVE_SIZE = 4;
+
+    public static final float DEFAULT_TICK_RATE = 60f;
+
+    public enum State {
+        EXPLORE,
+        DIALOG,
+        GAMEOVER,
+        VICTORY
+    }
+
+    /** Things the presentation layer may want to hear or show. */
+    public enum Event {
+        PLAYER_ATTACK,
+        PLAYER_DASH,
+        PLAYER_HEAL,
+        ENEMY_SHOT,
+        BOSS_SHOT,
+        BOMB_EXPLODED,
+        BOSS_APPEARED,
+        PLAYER_DIED,
+        VICTORY
+    }
+
+    public interface Listener {
+        /** x, y = posisi world tempat event terjadi. */
+        void onEvent(Event event, float x, float y);
+    }
+
+    private static final String[] DIALOG = {
+        "Para penjajah berusaha merebut tanah kita.",
+        "Jaga tanah ini dengan sepenuh hatimu!",
+        "Jangan pernah gentar meskipun nyawa taruhannya!"
+    };
+
+    // Game objects
+    private final Player player;
+    private final NPC npc;
+    private final Boss boss;
+    // indeks bertipe untuk AI dan sistem lain; array di bawah adalah milik registry
+    private final EntityRegistry entities;
+    // musuh disimpan per komponen (Combatants), logikanya ada di systems
+    private final Combatants enemies;
+    private final Array<GameSystem> systems = new Array<>();
+    private final EnemyAiSystem enemyAi;
+    private final Array<Bomb> bossBombs;
+    private final Array<Explosion> explosions;
+    private final EntityPools pools = new EntityPools();
+    private final EnemyArchetypes enemyTypes;
+    // peluru musuh dan boss; satu sistem SoA, bukan actor per peluru
+    private final ProjectileSystem projectiles;
+
+    // Broadphase untuk player, boss dan bomb, dibangun ulang tiap step;
+    // musuh dicek langsung di array Combatants yang sudah rapat
+    private final SpatialGrid<Object> grid = new SpatialGrid<>(WIDTH, HEIGHT, 128);
+    private final Array<Object> hits = new Array<>();
+
+    private State state = State.DIALOG;
+    private int dialogIndex = 0;
+    private int killCount = 0;
+    private float stateTime = 0f;
+    private long tickCount = 0;
+    private float stepTime = 1f / DEFAULT_TICK_RATE;
+    // RNG milik world ini saja; MathUtils.random global tidak disentuh
+    private final RandomXS128 random;
+    private Listener listener;
+
+    public World(GameAtlas atlas) {
+        this(atlas, System.nanoTime());
+    }
+
+    /**
+     * Same seed + same inputs = same run. The seed drives the world's own RNG (getRandom), which waves,
+     * enemy patrols and the boss use; the global MathUtils.random is left alone.
+     */
+    public World(GameAtlas atlas, long seed) {
+        random = new RandomXS128(seed);
+        enemies = new Combatants(32, random);
+
+        projectiles = new ProjectileSystem(atlas.region("bullet"), 256);
+        enemyTypes = new EnemyArchetypes(atlas);
+        entities = new EntityRegistry(enemies, projectiles);
+        bossBombs = entities.bombs;
+        explosions = entities.explosions;
+
+        player = new Player(100, 0, atlas);
+        entities.register(player);
+        player.setWorld(this);
+
+        npc = new NPC(-200, -150, atlas);
+        entities.register(npc);
+        npc.setWorld(this);
+        npc.startEnter();
+
+        boss = new Boss(5100, 0, atlas, 4.25f);
+        entities.register(boss);
+        boss.setWorld(this);
+        boss.setProjectiles(projectiles);
+        boss.setBombsArray(bossBombs);
+        boss.setPools(pools);
+
+        // urutan step: AI musuh -> peluru bergerak -> musuh yang siap menembak
+        enemyAi = new EnemyAiSystem(entities);
+        systems.add(enemyAi);
+        systems.add(projectiles);
+        systems.add(new EnemyWeaponSystem(this));
+
+        // Spawn first wave
+        spawnWave();
+    }
+
+    public void setListener(Listener listener) { this.listener = listener; }
+
+    /**
+     * Sets how many simulation steps run per second of game time.
+     */
+    public void setTickRate(float ticksPerSecond) {
+        stepTime = 1f / ticksPerSecond;
+    }
+
+    public float getStepTime() { return stepTime; }
+
+    /**
+     * Area the camera shows; enemies far outside it stop thinking (see EnemyAiSystem). The rectangle
+     * is read every step, so pass one that the caller keeps updating.
+     */
+    public void setView(Rectangle view) {
+        enemyAi.setView(view);
+    }
+
+    /**
+     * Advances the simulation by exactly one step using the given controls.
+     * Latched presses in input are read but not cleared; the caller consumes them.
+     */
+    public void tick(PlayerInput input) {
+        player.setInput(input);
+        savePreviousPositions();
+        update(stepTime, input);
+        tickCount++;
+    }
+
+    private void update(float delta, PlayerInput input) {
+        stateTime += delta;
+
+        // --- CEK GAME OVER ---
+        if (player.health <= 0 && state != State.GAMEOVER && state != State.VICTORY) {
+            state = State.GAMEOVER;
+            emit(Event.PLAYER_DIED, player.getX(), player.getY());
+        }
+        // setelah gameover/menang simulasi berhenti, layar yang menentukan lanjutannya
+        if (state == State.GAMEOVER || state == State.VICTORY) return;
+
+        // Update phase
+        if (state == State.DIALOG) {
+            player.updateDialog(delta);
+        }
+        player.act(delta);
+        npc.act(delta);
+        boss.act(delta);
+        for (int i = 0; i < systems.size; i++) systems.get(i).update(delta);
+
+        // Dialog progression
+        if (state == State.DIALOG && input.attackPressed) {
+            dialogIndex++;
+            if (dialogIndex >= DIALOG.length) {
+                npc.startLeave();
+                state = State.EXPLORE;
+            }
+        }
+
+        // Bomb bergerak dulu supaya grid berisi posisi terbaru
+        for (int i = 0; i < bossBombs.size; i++) bossBombs.get(i).update(delta);
+        JfrEvents.Collision collision = new JfrEvents.Collision();
+        collision.begin();
+        rebuildGrid();
+
+        // Player attack detection (musuh diprioritaskan, baru boss)
+        if (player.isAttack && !player.hitRegistered) {
+            Rectangle atk = player.getAttackHitbox();
+            if (atk != null) {
+                int target = enemies.overlapping(atk);
+                if (target >= 0) {
+                    enemies.takeDamage(target, 100);
+                    player.hitRegistered = true;
+                } else {
+                    hits.clear();
+                    grid.queryRect(atk, SpatialGrid.LAYER_BOSS, hits);
+                    if (hits.size > 0) {
+                        boss.takeDamage(30);
+                        player.hitRegistered = true;
+                    }
+                }
+            }
+        }
+
+        // Process dead enemies
+        // mundur karena remove() memindahkan musuh terakhir ke index yang dihapus
+        for (int i = enemies.size() - 1; i >= 0; i--) {
+            if (!enemies.isDead(i)) continue;
+            killCount++;
+
+            // --- LOGIKA MUNCUL BOSS ---
+            if (killCount >= KILL_TARGET && !boss.active) {
+                boss.setActive(true);
+                boss.state = Boss.State.RUN;
+                emit(Event.BOSS_APPEARED, boss.getX(), boss.getY());
+            }
+            enemies.remove(i);
+        }
+
+        // --- LOGIKA BOSS MATI ---
+        if (boss.active && boss.hp <= 0) {
+            boss.active = false;
+
+            // Ubah kill count jadi 21 sesuai request
+            killCount = WIN_TARGET;
+            state = State.VICTORY;
+            emit(Event.VICTORY, boss.getX(), boss.getY());
+            return;
+        }
+
+        // Spawn next wave
+        if (enemies.size() == 0 && killCount < KILL_TARGET && state == State.EXPLORE) {
+            spawnWave();
+        }
+
+        // Bullets vs player: peluru yang kena langsung dihapus, shield menahan tanpa damage
+        int liveProjectiles = projectiles.size();
+        float bulletDamage = projectiles.collide(player.hitbox);
+        if (bulletDamage > 0 && !player.isShielding && player.health > 0) {
+            player.health -= bulletDamage;
+            if (player.health < 0) player.health = 0;
+        }
+
+        // ==== BOMB vs PLAYER ====
+        hits.clear();
+        grid.queryRect(player.hitbox, SpatialGrid.LAYER_BOMB, hits);
+        for (Object o : hits) {
+            Bomb b = (Bomb) o;
+            if (player.isShielding) {
+                spawnExplosion(b.rect.x + 25, b.rect.y + 25);
+                bossBombs.removeValue(b, true);
+                pools.bombs.free(b);
+            } else {
+                player.health -= 20;
+                if (player.health < 0) player.health = 0;
+            }
+        }
+        for (int i = bossBombs.size - 1; i >= 0; i--) {
+            Bomb b = bossBombs.get(i);
+            if (b.exploded) {
+                spawnExplosion(b.rect.x + 25, b.rect.y + 25);
+                emit(Event.BOMB_EXPLODED, b.rect.x + 25, b.rect.y + 25);
+                pools.bombs.free(bossBombs.removeIndex(i));
+            }
+        }
+
+        // == EXPLOSION ==
+        for (int i = explosions.size - 1; i >= 0; i--) {
+            Explosion ex = explosions.get(i);
+            ex.update(delta);
+
+            if (!ex.hasDamaged) {
+                hits.clear();
+                grid.queryCircle(ex.x, ex.y, ex.radius, SpatialGrid.LAYER_PLAYER, hits);
+                // grid hanya broadphase; yang kena tetap diukur dari tengah hitbox player seperti dulu
+                if (hits.size > 0 && centerWithin(player.hitbox, ex.x, ex.y, ex.radius)) {
+                    if (!player.isShielding && player.health > 0) {
+                        player.health -= 40;
+                    }
+                    ex.hasDamaged = true;
+                }
+            }
+            if (ex.life <= 0) pools.explosions.free(explosions.removeIndex(i));
+        }
+
+        collision.end();
+        if (collision.shouldCommit()) {
+            collision.enemies = enemies.size();
+            collision.projectiles = liveProjectiles;
+            collision.bombs = bossBombs.size;
+            collision.damage = bulletDamage;
+            collision.commit();
+        }
+    }
+
+    private void spawnWave() {
+        JfrEvents.WaveSpawn event = new JfrEvents.WaveSpawn();
+        event.begin();
+        enemies.clear();
+        for (int i = 0; i < WAVE_SIZE; i++) {
+            int x = (killCount == 0) ? 1000 + random.nextInt(1000) : 200 + random.nextInt(1800);
+            // wave pertama selalu Soldier_1, setelah itu campuran semua tipe
+            EnemyArchetype type = (killCount == 0) ? enemyTypes.get(EnemyArchetypes.SOLDIER_1) : enemyTypes.random(random);
+            enemies.spawn(x, 0, type);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.spawned = WAVE_SIZE;
+            event.killCount = killCount;
+            event.commit();
+        }
+    }
+
+    private void savePreviousPositions() {
+        player.savePreviousPosition();
+        npc.savePreviousPosition();
+        boss.savePreviousPosition();
+        enemies.savePreviousPositions();
+        projectiles.savePreviousPositions();
+        for (int i = 0; i < bossBombs.size; i++) {
+            Bomb b = bossBombs.get(i);
+            b.prevX = b.rect.x;
+            b.prevY = b.rect.y;
+        }
+    }
+
+    private void rebuildGrid() {
+        grid.clear();
+        grid.insert(player, player.hitbox, SpatialGrid.LAYER_PLAYER);
+        if (boss.active) grid.insert(boss, boss.hitbox, SpatialGrid.LAYER_BOSS);
+        for (Bomb b : bossBombs) grid.insert(b, b.rect, SpatialGrid.LAYER_BOMB);
+    }
+
+    private static boolean centerWithin(Rectangle r, float x, float y, float radius) {
+        float dx = r.x + r.width / 2f - x;
+        float dy = r.y + r.height / 2f - y;
+        return dx * dx + dy * dy <= radius * radius;
+    }
+
+    private void spawnExplosion(float x, float y) {
+        explosions.add(pools.explosions.obtain().init(x, y, boss.getExplosionAnim()));
+    }
+
+    void emit(Event event, float x, float y) {
+        if (listener != null) listener.onEvent(event, x, y);
+    }
+
+    public EntityRegistry getEntities() { return entities; }
+    public Player getPlayer() { return player; }
+    public NPC getNpc() { return npc; }
+    public Boss getBoss() { return boss; }
+    public Combatants getEnemies() { return enemies; }
+    public EnemyAiSystem getEnemyAi() { return enemyAi; }
+    public ProjectileSystem getProjectiles() { return projectiles; }
+    public Array<Bomb> getBombs() { return bossBombs; }
+    public Array<Explosion> getExplosions() { return explosions; }
+    public EntityPools getPools() { return pools; }
+    /** This world's RNG; everything in the simulation draws from it so a seed replays the same run. */
+    public RandomXS128 getRandom() { return random; }
+    public State getState() { return state; }
+    public int getKillCount() { return killCount; }
+    public long getTickCount() { return tickCount; }
+
+    /** Current dialog line, or null outside the opening dialog. */
+    public String getDialogLine() {
+        return state == State.DIALOG ? DIALOG[dialogIndex] : null;
+    }
+}
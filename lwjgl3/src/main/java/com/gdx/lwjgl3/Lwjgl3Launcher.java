@@ -3,14 +3,77 @@ package com.gdx.lwjgl3;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 import com.gdx.Main;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 
 /** Launches the desktop (LWJGL3) application. */
 public class Lwjgl3Launcher {
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
+        startFlightRecording(args);
         createApplication();
     }
 
+    /**
+     * Starts a JDK Flight Recorder recording when the game is launched with --jfr (the game's own
+     * game.jfc profile) or --jfr=&lt;file.jfc | default | profile&gt;. -Dgame.jfr=... does the same and
+     * survives the macOS JVM restart, which drops program arguments.
+     * The recording is written to gamejavapbo-&lt;time&gt;.jfr in the working directory when the game exits.
+     */
+    private static void startFlightRecording(String[] args) {
+        String settings = System.getProperty("game.jfr");
+        for (String arg : args) {
+            if (arg.equals("--jfr")) settings = "";
+            else if (arg.startsWith("--jfr=")) settings = arg.substring("--jfr=".length());
+        }
+        if (settings == null) return;
+
+        try {
+            Configuration configuration;
+            if (settings.isEmpty() || settings.equals("true")) {
+                InputStream profile = Lwjgl3Launcher.class.getResourceAsStream("/game.jfc");
+                if (profile == null) {
+                    log("JFR recording tidak bisa dimulai: resource /game.jfc tidak ada di classpath");
+                    return;
+                }
+                try (Reader reader = new InputStreamReader(profile, StandardCharsets.UTF_8)) {
+                    configuration = Configuration.create(reader);
+                }
+            } else if (Files.exists(Path.of(settings))) {
+                configuration = Configuration.create(Path.of(settings));
+            } else {
+                configuration = Configuration.getConfiguration(settings);
+            }
+
+            Path output = Path.of("gamejavapbo-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".jfr");
+            Recording recording = new Recording(configuration);
+            recording.setName("GameJavaPBO");
+            recording.setToDisk(true);
+            recording.setDestination(output);
+            recording.setDumpOnExit(true);
+            recording.start();
+            log("JFR recording -> " + output.toAbsolutePath());
+        } catch (IOException | ParseException e) {
+            log("JFR recording tidak bisa dimulai (" + settings + "): " + e);
+        }
+    }
+
+    // Gdx.app belum ada sebelum Lwjgl3Application dibuat, jadi semua pesan JFR lewat stderr
+    private static void log(String message) {
+        System.err.println(message);
+    }
+
     private static Lwjgl3Application createApplication() {
         return new Lwjgl3Application(new Main(), getDefaultConfiguration());
     }